@@ -50,6 +50,8 @@ public class Arbitraries {
 
 		public abstract <M> ActionSequenceArbitrary<M> sequences(Arbitrary<? extends Action<M>> actionArbitrary);
 
+		public abstract <M> ActionSequenceArbitrary<M> sequences(List<ActionType<M>> actionTypes);
+
 		public abstract <T> Arbitrary<T> frequencyOf(List<Tuple2<Integer, Arbitrary<T>>> frequencies);
 
 		public abstract IntegerArbitrary integers();
@@ -663,6 +665,22 @@ public class Arbitraries {
 		return ArbitrariesFacade.implementation.sequences(actionArbitrary);
 	}
 
+	/**
+	 * Create an arbitrary to create a sequence of actions from several action types.
+	 * Only types whose precondition holds for the current model are drawn from,
+	 * so that no generation attempts are wasted on types that are impossible in the current state.
+	 * Useful for stateful testing.
+	 *
+	 * @param actionTypes The types of actions to choose from by their weight
+	 * @param <M>         The type of the model
+	 * @return a new arbitrary instance
+	 */
+	@SafeVarargs
+	@API(status = EXPERIMENTAL, since = "1.5.2")
+	public static <M> ActionSequenceArbitrary<M> sequences(ActionType<M>... actionTypes) {
+		return ArbitrariesFacade.implementation.sequences(Arrays.asList(actionTypes));
+	}
+
 	/**
 	 * Create an arbitrary to create instances of {@linkplain Map}.
 	 * The generated maps are mutable.
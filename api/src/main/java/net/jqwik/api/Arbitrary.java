@@ -39,6 +39,10 @@ public interface Arbitrary<T> {
 
 		public abstract <T> Stream<T> sampleStream(Arbitrary<T> arbitrary);
 
+		public abstract <T> List<T> samples(Arbitrary<T> arbitrary, int numberOfSamples);
+
+		public abstract <T> Stream<T> parallelSampleStream(Arbitrary<T> arbitrary);
+
 		public abstract <T> Arbitrary<T> injectNull(Arbitrary<T> self, double nullProbability);
 
 		public abstract <T> Arbitrary<T> filter(Arbitrary<T> self, Predicate<T> filterPredicate);
@@ -408,6 +412,45 @@ public interface Arbitrary<T> {
 				   .orElse(null);
 	}
 
+	/**
+	 * Generate a list of sample values using this arbitrary.
+	 * Use this method instead of {@linkplain #sampleStream()} if you need many values at once,
+	 * e.g. to feed test data builders.
+	 *
+	 * <p>
+	 * The same rules as for {@linkplain #sampleStream()} apply.
+	 * Each thread uses its own generator.
+	 * </p>
+	 *
+	 * @param numberOfSamples The number of values to generate
+	 * @return a list of newly generated values
+	 */
+	@API(status = EXPERIMENTAL, since = "1.5.2")
+	default List<T> samples(int numberOfSamples) {
+		return ArbitraryFacade.implementation.samples(this, numberOfSamples);
+	}
+
+	/**
+	 * Generate an endless parallel stream of sample values using this arbitrary.
+	 *
+	 * <p>
+	 * Every split of the stream gets its own {@linkplain Random} seeded from its parent split
+	 * and every thread uses its own generator. Values are generated in chunks.
+	 * The stream is unordered; use {@linkplain Stream#limit(long)} to stop it.
+	 * </p>
+	 *
+	 * <p>
+	 * Since the distribution of values onto splits depends on thread scheduling
+	 * results are not reproducible even within a property.
+	 * </p>
+	 *
+	 * @return a parallel stream of newly generated values
+	 */
+	@API(status = EXPERIMENTAL, since = "1.5.2")
+	default Stream<T> parallelSampleStream() {
+		return ArbitraryFacade.implementation.parallelSampleStream(this);
+	}
+
 	/**
 	 * Create a new arbitrary of type {@code Iterable<T>} that will
 	 * inject duplicates of previously generated values with a probability of {@code duplicateProbability}.
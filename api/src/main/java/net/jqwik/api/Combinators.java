@@ -217,11 +217,7 @@ public class Combinators {
 
 	@SuppressWarnings("unchecked")
 	private static <T> List<T> asTypedList(Object... objects) {
-		List<T> list = new ArrayList<>();
-		for (Object object : objects) {
-			list.add((T) object);
-		}
-		return list;
+		return (List<T>) Arrays.asList(objects);
 	}
 
 	/**
@@ -249,6 +245,7 @@ public class Combinators {
 			//		public <R> Arbitrary<R> as(F2<T1, T2, R> combinator) {
 			//			return a1.flatMap(v1 -> a2.map(v2 -> combinator.apply(v1, v2)));
 			//		}
+			Function<List<Object>, R> combinedFunction = combineFunction(combinator);
 			return new Arbitrary<R>() {
 				@Override
 				public RandomGenerator<R> generator(int genSize) {
@@ -265,7 +262,7 @@ public class Combinators {
 					RandomGenerator<T2> g2 = a2.generator(genSize, withEmbeddedEdgeCases);
 					return random -> {
 						List<Shrinkable<Object>> shrinkables = asTypedList(g1.next(random), g2.next(random));
-						return CombinatorsFacade.implementation.combineShrinkables(shrinkables, combineFunction(combinator));
+						return CombinatorsFacade.implementation.combineShrinkables(shrinkables, combinedFunction);
 					};
 				}
 
@@ -273,7 +270,7 @@ public class Combinators {
 				public Optional<ExhaustiveGenerator<R>> exhaustive(long maxNumberOfSamples) {
 					return CombinatorsFacade.implementation.combineExhaustive(
 						asTypedList(a1, a2),
-						combineFunction(combinator),
+						combinedFunction,
 						maxNumberOfSamples
 					);
 				}
@@ -282,7 +279,7 @@ public class Combinators {
 				public EdgeCases<R> edgeCases(int maxEdgeCases) {
 					return CombinatorsFacade.implementation.combineEdgeCases(
 						asTypedList(a1, a2),
-						combineFunction(combinator),
+						combinedFunction,
 						maxEdgeCases
 					);
 				}
@@ -317,6 +314,7 @@ public class Combinators {
 		 * @return arbitrary instance
 		 */
 		public <R> Arbitrary<R> as(F3<T1, T2, T3, R> combinator) {
+			Function<List<Object>, R> combinedFunction = combineFunction(combinator);
 			return new Arbitrary<R>() {
 				@Override
 				public RandomGenerator<R> generator(int genSize) {
@@ -338,7 +336,7 @@ public class Combinators {
 							g2.next(random),
 							g3.next(random)
 						);
-						return CombinatorsFacade.implementation.combineShrinkables(shrinkables, combineFunction(combinator));
+						return CombinatorsFacade.implementation.combineShrinkables(shrinkables, combinedFunction);
 					};
 				}
 
@@ -346,7 +344,7 @@ public class Combinators {
 				public Optional<ExhaustiveGenerator<R>> exhaustive(long maxNumberOfSamples) {
 					return CombinatorsFacade.implementation.combineExhaustive(
 						asTypedList(a1, a2, a3),
-						combineFunction(combinator),
+						combinedFunction,
 						maxNumberOfSamples
 					);
 				}
@@ -355,7 +353,7 @@ public class Combinators {
 				public EdgeCases<R> edgeCases(int maxEdgeCases) {
 					return CombinatorsFacade.implementation.combineEdgeCases(
 						asTypedList(a1, a2, a3),
-						combineFunction(combinator),
+						combinedFunction,
 						maxEdgeCases
 					);
 				}
@@ -396,6 +394,7 @@ public class Combinators {
 		 * @return arbitrary instance
 		 */
 		public <R> Arbitrary<R> as(F4<T1, T2, T3, T4, R> combinator) {
+			Function<List<Object>, R> combinedFunction = combineFunction(combinator);
 			return new Arbitrary<R>() {
 				@Override
 				public RandomGenerator<R> generator(int genSize) {
@@ -421,7 +420,7 @@ public class Combinators {
 							g4.next(random)
 						);
 
-						return CombinatorsFacade.implementation.combineShrinkables(shrinkables, combineFunction(combinator));
+						return CombinatorsFacade.implementation.combineShrinkables(shrinkables, combinedFunction);
 					};
 				}
 
@@ -429,7 +428,7 @@ public class Combinators {
 				public Optional<ExhaustiveGenerator<R>> exhaustive(long maxNumberOfSamples) {
 					return CombinatorsFacade.implementation.combineExhaustive(
 						asTypedList(a1, a2, a3, a4),
-						combineFunction(combinator),
+						combinedFunction,
 						maxNumberOfSamples
 					);
 				}
@@ -438,7 +437,7 @@ public class Combinators {
 				public EdgeCases<R> edgeCases(int maxEdgeCases) {
 					return CombinatorsFacade.implementation.combineEdgeCases(
 						asTypedList(a1, a2, a3, a4),
-						combineFunction(combinator),
+						combinedFunction,
 						maxEdgeCases
 					);
 				}
@@ -482,6 +481,7 @@ public class Combinators {
 		 * @return arbitrary instance
 		 */
 		public <R> Arbitrary<R> as(F5<T1, T2, T3, T4, T5, R> combinator) {
+			Function<List<Object>, R> combinedFunction = combineFunction(combinator);
 			return new Arbitrary<R>() {
 				@Override
 				public RandomGenerator<R> generator(int genSize) {
@@ -508,7 +508,7 @@ public class Combinators {
 							g4.next(random),
 							g5.next(random)
 						);
-						return CombinatorsFacade.implementation.combineShrinkables(shrinkables, combineFunction(combinator));
+						return CombinatorsFacade.implementation.combineShrinkables(shrinkables, combinedFunction);
 					};
 				}
 
@@ -516,7 +516,7 @@ public class Combinators {
 				public Optional<ExhaustiveGenerator<R>> exhaustive(long maxNumberOfSamples) {
 					return CombinatorsFacade.implementation.combineExhaustive(
 						asTypedList(a1, a2, a3, a4, a5),
-						combineFunction(combinator),
+						combinedFunction,
 						maxNumberOfSamples
 					);
 				}
@@ -525,7 +525,7 @@ public class Combinators {
 				public EdgeCases<R> edgeCases(int maxEdgeCases) {
 					return CombinatorsFacade.implementation.combineEdgeCases(
 						asTypedList(a1, a2, a3, a4, a5),
-						combineFunction(combinator),
+						combinedFunction,
 						maxEdgeCases
 					);
 				}
@@ -572,6 +572,7 @@ public class Combinators {
 		 * @return arbitrary instance
 		 */
 		public <R> Arbitrary<R> as(F6<T1, T2, T3, T4, T5, T6, R> combinator) {
+			Function<List<Object>, R> combinedFunction = combineFunction(combinator);
 			return new Arbitrary<R>() {
 				@Override
 				public RandomGenerator<R> generator(int genSize) {
@@ -600,7 +601,7 @@ public class Combinators {
 							g5.next(random),
 							g6.next(random)
 						);
-						return CombinatorsFacade.implementation.combineShrinkables(shrinkables, combineFunction(combinator));
+						return CombinatorsFacade.implementation.combineShrinkables(shrinkables, combinedFunction);
 					};
 				}
 
@@ -608,7 +609,7 @@ public class Combinators {
 				public Optional<ExhaustiveGenerator<R>> exhaustive(long maxNumberOfSamples) {
 					return CombinatorsFacade.implementation.combineExhaustive(
 						asTypedList(a1, a2, a3, a4, a5, a6),
-						combineFunction(combinator),
+						combinedFunction,
 						maxNumberOfSamples
 					);
 				}
@@ -617,7 +618,7 @@ public class Combinators {
 				public EdgeCases<R> edgeCases(int maxEdgeCases) {
 					return CombinatorsFacade.implementation.combineEdgeCases(
 						asTypedList(a1, a2, a3, a4, a5, a6),
-						combineFunction(combinator),
+						combinedFunction,
 						maxEdgeCases
 					);
 				}
@@ -670,6 +671,7 @@ public class Combinators {
 		 * @return arbitrary instance
 		 */
 		public <R> Arbitrary<R> as(F7<T1, T2, T3, T4, T5, T6, T7, R> combinator) {
+			Function<List<Object>, R> combinedFunction = combineFunction(combinator);
 			return new Arbitrary<R>() {
 				@Override
 				public RandomGenerator<R> generator(int genSize) {
@@ -700,7 +702,7 @@ public class Combinators {
 							g6.next(random),
 							g7.next(random)
 						);
-						return CombinatorsFacade.implementation.combineShrinkables(shrinkables, combineFunction(combinator));
+						return CombinatorsFacade.implementation.combineShrinkables(shrinkables, combinedFunction);
 					};
 				}
 
@@ -708,7 +710,7 @@ public class Combinators {
 				public Optional<ExhaustiveGenerator<R>> exhaustive(long maxNumberOfSamples) {
 					return CombinatorsFacade.implementation.combineExhaustive(
 						asTypedList(a1, a2, a3, a4, a5, a6, a7),
-						combineFunction(combinator),
+						combinedFunction,
 						maxNumberOfSamples
 					);
 				}
@@ -717,7 +719,7 @@ public class Combinators {
 				public EdgeCases<R> edgeCases(int maxEdgeCases) {
 					return CombinatorsFacade.implementation.combineEdgeCases(
 						asTypedList(a1, a2, a3, a4, a5, a6, a7),
-						combineFunction(combinator),
+						combinedFunction,
 						maxEdgeCases
 					);
 				}
@@ -772,6 +774,7 @@ public class Combinators {
 		 * @return arbitrary instance
 		 */
 		public <R> Arbitrary<R> as(F8<T1, T2, T3, T4, T5, T6, T7, T8, R> combinator) {
+			Function<List<Object>, R> combinedFunction = combineFunction(combinator);
 			return new Arbitrary<R>() {
 				@Override
 				public RandomGenerator<R> generator(int genSize) {
@@ -804,7 +807,7 @@ public class Combinators {
 							g7.next(random),
 							g8.next(random)
 						);
-						return CombinatorsFacade.implementation.combineShrinkables(shrinkables, combineFunction(combinator));
+						return CombinatorsFacade.implementation.combineShrinkables(shrinkables, combinedFunction);
 					};
 				}
 
@@ -812,7 +815,7 @@ public class Combinators {
 				public Optional<ExhaustiveGenerator<R>> exhaustive(long maxNumberOfSamples) {
 					return CombinatorsFacade.implementation.combineExhaustive(
 						asTypedList(a1, a2, a3, a4, a5, a6, a7, a8),
-						combineFunction(combinator),
+						combinedFunction,
 						maxNumberOfSamples
 					);
 				}
@@ -821,7 +824,7 @@ public class Combinators {
 				public EdgeCases<R> edgeCases(int maxEdgeCases) {
 					return CombinatorsFacade.implementation.combineEdgeCases(
 						asTypedList(a1, a2, a3, a4, a5, a6, a7, a8),
-						combineFunction(combinator),
+						combinedFunction,
 						maxEdgeCases
 					);
 				}
@@ -860,6 +863,7 @@ public class Combinators {
 		 */
 		@SuppressWarnings("unchecked")
 		public <R> Arbitrary<R> as(Function<List<T>, R> combinator) {
+			Function<List<Object>, R> combinedFunction = params -> combinator.apply((List<T>) params);
 			return new Arbitrary<R>() {
 				@Override
 				public RandomGenerator<R> generator(int genSize) {
@@ -879,22 +883,16 @@ public class Combinators {
 									.collect(Collectors.toList());
 
 					return random -> {
-						List<Shrinkable<Object>> shrinkables =
-								listOfGenerators
-										.stream()
-										.map(g -> g.next(random))
-										.map(s -> (Shrinkable<Object>) s)
-										.collect(Collectors.toList());
-
-						Function<List<Object>, R> combineFunction = params -> combinator.apply((List<T>) params);
-
-						return CombinatorsFacade.implementation.combineShrinkables(shrinkables, combineFunction);
+						List<Shrinkable<Object>> shrinkables = new ArrayList<>(listOfGenerators.size());
+						for (RandomGenerator<T> generator : listOfGenerators) {
+							shrinkables.add((Shrinkable<Object>) generator.next(random));
+						}
+						return CombinatorsFacade.implementation.combineShrinkables(shrinkables, combinedFunction);
 					};
 				}
 
 				@Override
 				public Optional<ExhaustiveGenerator<R>> exhaustive(long maxNumberOfSamples) {
-					Function<List<Object>, R> combinedFunction = params -> combinator.apply((List<T>) params);
 					return CombinatorsFacade.implementation.combineExhaustive(
 							asTypedList(listOfArbitraries.toArray()),
 							combinedFunction,
@@ -904,7 +902,6 @@ public class Combinators {
 
 				@Override
 				public EdgeCases<R> edgeCases(int maxEdgeCases) {
-					Function<List<Object>, R> combinedFunction = params -> combinator.apply((List<T>) params);
 					return CombinatorsFacade.implementation.combineEdgeCases(
 							asTypedList(listOfArbitraries.toArray()),
 							combinedFunction,
@@ -945,14 +942,38 @@ public class Combinators {
 	 */
 	@API(status = MAINTAINED, since = "1.2.0")
 	public static class BuilderCombinator<B> {
-		private final Arbitrary<B> builder;
+		private final Arbitrary<Object> builder;
+
+		// All used arbitraries and their functions are combined in a single step when building
+		private final List<Arbitrary<Object>> usedArbitraries;
+		private final List<F2<Object, Object, Object>> toFunctions;
 
+		@SuppressWarnings("unchecked")
 		private BuilderCombinator(Arbitrary<B> delegate) {
-			this.builder = delegate;
+			this((Arbitrary<Object>) delegate, Collections.emptyList(), Collections.emptyList());
+		}
+
+		private BuilderCombinator(
+			Arbitrary<Object> builder,
+			List<Arbitrary<Object>> usedArbitraries,
+			List<F2<Object, Object, Object>> toFunctions
+		) {
+			this.builder = builder;
+			this.usedArbitraries = usedArbitraries;
+			this.toFunctions = toFunctions;
 		}
 
 		public <T> CombinableBuilder<B, T> use(Arbitrary<T> arbitrary) {
-			return new CombinableBuilder<>(builder, arbitrary);
+			return new CombinableBuilder<>(this, arbitrary);
+		}
+
+		@SuppressWarnings("unchecked")
+		private <C, T> BuilderCombinator<C> withStep(Arbitrary<T> arbitrary, F2<B, T, C> toFunction) {
+			List<Arbitrary<Object>> arbitraries = new ArrayList<>(usedArbitraries);
+			arbitraries.add((Arbitrary<Object>) arbitrary);
+			List<F2<Object, Object, Object>> functions = new ArrayList<>(toFunctions);
+			functions.add((F2<Object, Object, Object>) toFunction);
+			return new BuilderCombinator<>(builder, arbitraries, functions);
 		}
 
 		/**
@@ -962,8 +983,23 @@ public class Combinators {
 		 * @param <T>           the target object's type
 		 * @return arbitrary of target object
 		 */
+		@SuppressWarnings("unchecked")
 		public <T> Arbitrary<T> build(Function<B, T> buildFunction) {
-			return builder.map(buildFunction);
+			if (usedArbitraries.isEmpty()) {
+				return builder.map(b -> buildFunction.apply((B) b));
+			}
+			// Parts are in reverse order of use so that the last used arbitrary is shrunk first
+			List<Arbitrary<Object>> parts = new ArrayList<>(usedArbitraries);
+			Collections.reverse(parts);
+			parts.add(builder);
+			int lastPart = parts.size() - 1;
+			return combine(parts).as(values -> {
+				Object current = values.get(lastPart);
+				for (int i = 0; i < toFunctions.size(); i++) {
+					current = toFunctions.get(i).apply(current, values.get(lastPart - 1 - i));
+				}
+				return buildFunction.apply((B) current);
+			});
 		}
 
 		/**
@@ -985,10 +1021,10 @@ public class Combinators {
 	 */
 	@API(status = MAINTAINED, since = "1.2.0")
 	public static class CombinableBuilder<B, T> {
-		private final Arbitrary<B> builder;
+		private final BuilderCombinator<B> builder;
 		private final Arbitrary<T> arbitrary;
 
-		private CombinableBuilder(Arbitrary<B> builder, Arbitrary<T> arbitrary) {
+		private CombinableBuilder(BuilderCombinator<B> builder, Arbitrary<T> arbitrary) {
 			this.builder = builder;
 			this.arbitrary = arbitrary;
 		}
@@ -1003,10 +1039,7 @@ public class Combinators {
 		 * @return new {@linkplain BuilderCombinator} instance
 		 */
 		public <C> BuilderCombinator<C> in(Combinators.F2<B, T, C> toFunction) {
-			Arbitrary<C> arbitraryOfC =
-				Combinators.combine(arbitrary, builder)
-						   .as((t, b) -> toFunction.apply(b, t));
-			return new BuilderCombinator<>(arbitraryOfC);
+			return builder.withStep(arbitrary, toFunction);
 		}
 
 		/**
@@ -29,6 +29,20 @@ public enum GenerationMode {
 	 */
 	DATA_DRIVEN,
 
+	/**
+	 * Use randomized value generation guided by feedback from previous tries.
+	 * Samples of tries that collected a value not seen before in any of the property's
+	 * {@linkplain net.jqwik.api.statistics.Statistics statistics} collectors are kept
+	 * and are mutated to create some of the following samples.
+	 *
+	 * <p>
+	 * Any source of feedback, e.g. a coverage probe, can be plugged in
+	 * by collecting its findings through {@linkplain net.jqwik.api.statistics.Statistics#label(String)}.
+	 * </p>
+	 */
+	@API(status = EXPERIMENTAL, since = "1.5.2")
+	GUIDED,
+
 	/**
 	 * Let jqwik choose which generation mode it prefers:
 	 * <ul>
@@ -38,6 +38,7 @@ public @interface Property {
 	int MAX_DISCARD_RATIO_NOT_SET = 0;
 	String SEED_NOT_SET = "";
 	String STEREOTYPE_NOT_SET = "";
+	String MAX_DURATION_NOT_SET = "";
 
 	/**
 	 * Tries are the test runs with different parameters. By default it is 1000. You can override globally in the property file
@@ -48,6 +49,23 @@ public @interface Property {
 	 */
 	int tries() default TRIES_NOT_SET;
 
+	/**
+	 * The maximum wall-clock time to spend on generating and trying parameters.
+	 * Tries will stop as soon as either the configured number of {@linkplain #tries()} has been reached
+	 * or the duration has elapsed, whatever comes first. Shrinking is not included in this budget.
+	 *
+	 * <p>
+	 * Durations can be given as number with unit, e.g. {@code "500ms"}, {@code "30s"}, {@code "5m"} or {@code "1h"},
+	 * or in ISO-8601 format, e.g. {@code "PT30S"}.
+	 * By default there is no time budget, which can be overridden in
+	 * <a href="https://jqwik.net/docs/current/user-guide.html#jqwik-configuration">junit-platform.properties</a>.
+	 * </p>
+	 *
+	 * @return maximum duration of trying the property
+	 */
+	@API(status = EXPERIMENTAL, since = "1.5.2")
+	String maxDuration() default MAX_DURATION_NOT_SET;
+
 	/**
 	 * The maximum ratio of tried versus actually checked property runs in case you are using Assumptions. If the ratio is exceeded jqwik
 	 * will report this property as a failure.
@@ -22,6 +22,9 @@ public @interface PropertyDefaults {
 
 	int tries() default Property.TRIES_NOT_SET;
 
+	@API(status = EXPERIMENTAL, since = "1.5.2")
+	String maxDuration() default Property.MAX_DURATION_NOT_SET;
+
 	AfterFailureMode afterFailure() default AfterFailureMode.NOT_SET;
 
 	ShrinkingMode shrinking() default ShrinkingMode.NOT_SET;
@@ -45,6 +48,12 @@ public @interface PropertyDefaults {
 					attributes.setTries(tries);
 				}
 			});
+			findMaxDuration(propertyDefaults).ifPresent(maxDuration -> {
+				PropertyAttributes attributes = context.attributes();
+				if (!attributes.maxDuration().isPresent()) {
+					attributes.setMaxDuration(maxDuration);
+				}
+			});
 			findAfterFailure(propertyDefaults).ifPresent(afterFailure -> {
 				PropertyAttributes attributes = context.attributes();
 				if (!attributes.afterFailure().isPresent()) {
@@ -86,6 +95,13 @@ public @interface PropertyDefaults {
 								   .findFirst();
 		}
 
+		private Optional<String> findMaxDuration(List<PropertyDefaults> propertyDefaults) {
+			return propertyDefaults.stream()
+								   .map(PropertyDefaults::maxDuration)
+								   .filter(maxDuration -> !maxDuration.equals(Property.MAX_DURATION_NOT_SET))
+								   .findFirst();
+		}
+
 		private Optional<AfterFailureMode> findAfterFailure(List<PropertyDefaults> propertyDefaults) {
 			return propertyDefaults.stream()
 								   .map(PropertyDefaults::afterFailure)
@@ -18,7 +18,15 @@ public enum Reporting {
 	 * {@link Reporting#FALSIFIED} will report each set of parameters that is falsified during shrinking.
 	 * i.e., report "table" will be printed only when some test fails.
 	 */
-	FALSIFIED;
+	FALSIFIED,
+
+	/**
+	 * {@link Reporting#SHRINKING} will report statistics about shrinking a falsified sample,
+	 * e.g. number of falsifier calls, cache hits, invalid candidates and time spent per shrinking round.
+	 * This can help to find out why shrinking takes long and if another {@linkplain ShrinkingMode} should be used.
+	 */
+	@API(status = EXPERIMENTAL, since = "1.5.2")
+	SHRINKING;
 
 	public boolean containedIn(Reporting[] reporting) {
 		return Arrays.stream(reporting).anyMatch(this::equals);
@@ -22,20 +22,46 @@ public class ShrinkingDistance implements Comparable<ShrinkingDistance> {
 
 	@API(status = MAINTAINED, since = "1.0")
 	public static <T> ShrinkingDistance forCollection(Collection<Shrinkable<T>> elements) {
-		ShrinkingDistance sumDistanceOfElements = elements
-			.stream()
-			.map(Shrinkable::distance)
-			.reduce(ShrinkingDistance.of(0), ShrinkingDistance::plus);
+		// Sum up in place to not create an intermediate distance per element
+		long[] sumOfElements = new long[]{0};
+		for (Shrinkable<T> element : elements) {
+			long[] elementDistances = element.distance().distances;
+			if (elementDistances.length > sumOfElements.length) {
+				sumOfElements = Arrays.copyOf(sumOfElements, elementDistances.length);
+			}
+			for (int i = 0; i < elementDistances.length; i++) {
+				sumOfElements[i] = saturatedSum(sumOfElements[i], elementDistances[i]);
+			}
+		}
 
-		return ShrinkingDistance.of(elements.size()).append(sumDistanceOfElements);
+		long[] distances = new long[sumOfElements.length + 1];
+		distances[0] = elements.size();
+		System.arraycopy(sumOfElements, 0, distances, 1, sumOfElements.length);
+		return new ShrinkingDistance(distances);
 	}
 
 	@API(status = MAINTAINED, since = "1.0")
 	public static <T> ShrinkingDistance combine(List<Shrinkable<T>> shrinkables) {
-		return shrinkables
-			.stream()
-			.map(Shrinkable::distance)
-			.reduce(new ShrinkingDistance(new long[0]), ShrinkingDistance::append);
+		List<long[]> partDistances = new ArrayList<>(shrinkables.size());
+		int size = 0;
+		for (Shrinkable<T> shrinkable : shrinkables) {
+			long[] partDistance = shrinkable.distance().distances;
+			partDistances.add(partDistance);
+			size += partDistance.length;
+		}
+
+		long[] combined = new long[size];
+		int position = 0;
+		for (long[] partDistance : partDistances) {
+			System.arraycopy(partDistance, 0, combined, position, partDistance.length);
+			position += partDistance.length;
+		}
+		return new ShrinkingDistance(combined);
+	}
+
+	private static long saturatedSum(long left, long right) {
+		long sum = left + right;
+		return sum < 0 ? Long.MAX_VALUE : sum;
 	}
 
 	private ShrinkingDistance(long[] distances) {
@@ -111,11 +137,7 @@ public class ShrinkingDistance implements Comparable<ShrinkingDistance> {
 	private long[] sumUpArrays(long[] left, long[] right) {
 		long[] sum = new long[Math.max(left.length, right.length)];
 		for (int i = 0; i < sum.length; i++) {
-			long summedValue = at(left, i) + at(right, i);
-			if (summedValue < 0) {
-				summedValue = Long.MAX_VALUE;
-			}
-			sum[i] = summedValue;
+			sum[i] = saturatedSum(at(left, i), at(right, i));
 		}
 		return sum;
 	}
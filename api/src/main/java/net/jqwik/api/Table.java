@@ -1,5 +1,6 @@
 package net.jqwik.api;
 
+import java.nio.file.*;
 import java.util.*;
 import java.util.stream.*;
 
@@ -11,6 +12,46 @@ import static org.apiguardian.api.API.Status.*;
 
 @API(status = MAINTAINED, since = "1.0")
 public class Table {
+
+	@API(status = INTERNAL)
+	public static abstract class TableFacade {
+		private static final TableFacade implementation;
+
+		static {
+			implementation = FacadeLoader.load(TableFacade.class);
+		}
+
+		public abstract Iterable<Tuple> fromCsv(Path csvFile, List<Class<?>> columnTypes);
+	}
+
+	/**
+	 * Read data points lazily from a file with comma separated values.
+	 * Each call to {@code iterator()} reads the file again line by line
+	 * so that the number of rows does not influence memory consumption.
+	 *
+	 * <p>
+	 * Every non empty line that does not start with {@code #} is one data point.
+	 * Whitespace around unquoted field content is ignored.
+	 * Fields can be enclosed in double quotes to contain commas or surrounding whitespace;
+	 * a double quote within a quoted field is written as two double quotes.
+	 * Fields are converted to their column type, which can be
+	 * {@code String}, a primitive type, its wrapper type, {@code BigInteger}, {@code BigDecimal} or an enum type.
+	 * </p>
+	 *
+	 * <p>
+	 * Iterators are {@linkplain AutoCloseable}. Within {@code @FromData} properties
+	 * the file is closed when the property is finished, even if not all rows have been read.
+	 * </p>
+	 *
+	 * @param csvFile     The file to read from. Must be UTF-8 encoded.
+	 * @param columnTypes The type of each column. At most 8 columns are supported.
+	 * @return an iterable of tuples with one item per column
+	 */
+	@API(status = EXPERIMENTAL, since = "1.5.2")
+	public static Iterable<Tuple> fromCsv(Path csvFile, Class<?>... columnTypes) {
+		return TableFacade.implementation.fromCsv(csvFile, Arrays.asList(columnTypes));
+	}
+
 	@SafeVarargs
 	public static <E> Iterable<Tuple1<E>> of(E... elements) {
 		return Arrays.stream(elements)
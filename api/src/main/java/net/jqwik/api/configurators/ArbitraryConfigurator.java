@@ -27,6 +27,19 @@ public interface ArbitraryConfigurator extends Comparable<ArbitraryConfigurator>
 	 */
 	<T> Arbitrary<T> configure(Arbitrary<T> arbitrary, TypeUsage targetType);
 
+	/**
+	 * Tell if this configurator might change arbitraries for a given {@code targetType}.
+	 * Configurators that are not applicable are not used for the target type at all.
+	 * Override to skip configuration of target types without the annotations you are interested in.
+	 *
+	 * @param targetType The type of the object to be generated by the arbitrary
+	 * @return true if {@linkplain #configure(Arbitrary, TypeUsage)} should be called
+	 */
+	@API(status = EXPERIMENTAL, since = "1.5.2")
+	default boolean isApplicableTo(TypeUsage targetType) {
+		return true;
+	}
+
 	/**
 	 * Determines the order in which a configurator will be applied in regards to other configurators.
 	 * Default value is {@code 100}. Use lower values to enforce earlier application and
@@ -3,12 +3,14 @@ package net.jqwik.api.configurators;
 import java.lang.annotation.*;
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.stream.*;
 
 import org.apiguardian.api.*;
 import org.junit.platform.commons.support.*;
 
 import net.jqwik.api.*;
+import net.jqwik.api.Tuple.*;
 import net.jqwik.api.providers.*;
 
 import static org.apiguardian.api.API.Status.*;
@@ -37,6 +39,12 @@ public abstract class ArbitraryConfiguratorBase implements ArbitraryConfigurator
 
 	private final static String CONFIG_METHOD_NAME = "configure";
 
+	// Configuration methods are only searched for once per arbitrary class and annotation type
+	private final Map<Tuple2<Class<?>, Class<? extends Annotation>>, List<Method>> methodsByArbitraryAndAnnotation = new ConcurrentHashMap<>();
+
+	private volatile List<Method> candidateMethods = null;
+	private volatile Optional<Set<Class<? extends Annotation>>> configuredAnnotationTypes = null;
+
 	@Override
 	public <T> Arbitrary<T> configure(Arbitrary<T> arbitrary, TypeUsage targetType) {
 		if (!acceptTargetType(targetType)) {
@@ -52,6 +60,27 @@ public abstract class ArbitraryConfiguratorBase implements ArbitraryConfigurator
 		return arbitrary;
 	}
 
+	/**
+	 * A configurator derived from this class is only applicable to a target type
+	 * that has at least one annotation for which a configuration method exists.
+	 * Subclasses that override {@linkplain #configure(Arbitrary, TypeUsage)} are always applicable.
+	 *
+	 * @param targetType The type of the object to be generated
+	 * @return true if this configurator might change an arbitrary for this target type
+	 */
+	@Override
+	@API(status = EXPERIMENTAL, since = "1.5.2")
+	public boolean isApplicableTo(TypeUsage targetType) {
+		Optional<Set<Class<? extends Annotation>>> optionalAnnotationTypes = configuredAnnotationTypes();
+		if (!optionalAnnotationTypes.isPresent()) {
+			return true;
+		}
+		Set<Class<? extends Annotation>> annotationTypes = optionalAnnotationTypes.get();
+		return acceptTargetType(targetType)
+				   && targetType.getAnnotations().stream()
+								.anyMatch(annotation -> annotationTypes.contains(annotation.annotationType()));
+	}
+
 	/**
 	 * Override if configurator only works for certain types of domain objects
 	 *
@@ -80,28 +109,69 @@ public abstract class ArbitraryConfiguratorBase implements ArbitraryConfigurator
 		return (Arbitrary<T>) configurationResult;
 	}
 
-	@SuppressWarnings("unchecked")
 	private <T> List<Method> findConfigurationMethods(Arbitrary<T> arbitrary, Annotation annotation) {
-		Class<? extends Arbitrary<T>> arbitraryClass = (Class<? extends Arbitrary<T>>) arbitrary.getClass();
-		return findMethods(getClass(),
-				method -> hasCompatibleConfigurationSignature(method, arbitraryClass, annotation), HierarchyTraversalMode.BOTTOM_UP);
+		Class<?> arbitraryClass = arbitrary.getClass();
+		Class<? extends Annotation> annotationType = annotation.annotationType();
+		return methodsByArbitraryAndAnnotation.computeIfAbsent(
+			Tuple.of(arbitraryClass, annotationType),
+			ignore -> candidateMethods().stream()
+										.filter(method -> hasCompatibleConfigurationSignature(method, arbitraryClass, annotationType))
+										.collect(Collectors.toList())
+		);
 	}
 
-	private static boolean hasCompatibleConfigurationSignature(
-		Method candidate,
-		Class<? extends Arbitrary<?>> arbitraryClass,
-		Annotation annotation
-	) {
+	private List<Method> candidateMethods() {
+		if (candidateMethods == null) {
+			candidateMethods = findMethods(getClass(), ArbitraryConfiguratorBase::isConfigurationMethod, HierarchyTraversalMode.BOTTOM_UP);
+		}
+		return candidateMethods;
+	}
+
+	// Empty if configure(Arbitrary, TypeUsage) is overridden and any target type must be considered
+	@SuppressWarnings("unchecked")
+	private Optional<Set<Class<? extends Annotation>>> configuredAnnotationTypes() {
+		if (configuredAnnotationTypes == null) {
+			if (overridesConfigure()) {
+				configuredAnnotationTypes = Optional.empty();
+			} else {
+				Set<Class<? extends Annotation>> annotationTypes = new HashSet<>();
+				for (Method method : candidateMethods()) {
+					Class<?> secondParameterType = method.getParameterTypes()[1];
+					if (secondParameterType.isAnnotation()) {
+						annotationTypes.add((Class<? extends Annotation>) secondParameterType);
+					}
+				}
+				configuredAnnotationTypes = Optional.of(annotationTypes);
+			}
+		}
+		return configuredAnnotationTypes;
+	}
+
+	private boolean overridesConfigure() {
+		try {
+			Method configure = getClass().getMethod(CONFIG_METHOD_NAME, Arbitrary.class, TypeUsage.class);
+			return !configure.getDeclaringClass().equals(ArbitraryConfiguratorBase.class);
+		} catch (NoSuchMethodException cannotHappen) {
+			return true;
+		}
+	}
+
+	private static boolean isConfigurationMethod(Method candidate) {
 		if (!CONFIG_METHOD_NAME.equals(candidate.getName())) {
 			return false;
 		}
 		if (!Arbitrary.class.isAssignableFrom(candidate.getReturnType())) {
 			return false;
 		}
-		if (candidate.getParameterCount() != 2) {
-			return false;
-		}
-		if (candidate.getParameterTypes()[1] != annotation.annotationType()) {
+		return candidate.getParameterCount() == 2;
+	}
+
+	private static boolean hasCompatibleConfigurationSignature(
+		Method candidate,
+		Class<?> arbitraryClass,
+		Class<? extends Annotation> annotationType
+	) {
+		if (candidate.getParameterTypes()[1] != annotationType) {
 			return false;
 		}
 		Class<?> upperArbitraryType = candidate.getParameterTypes()[0];
@@ -34,6 +34,18 @@ public interface PropertyAttributes {
 	 */
 	Optional<Integer> tries();
 
+	/**
+	 * The maximum duration of trying the property at hand.
+	 * Only present when set explicitly through {@linkplain Property#maxDuration()}
+	 * or {@linkplain #setMaxDuration(String)}.
+	 *
+	 * @return optional maximum duration, e.g. "30s"
+	 */
+	@API(status = EXPERIMENTAL, since = "1.5.2")
+	default Optional<String> maxDuration() {
+		return Optional.empty();
+	}
+
 	/**
 	 * The maximum allowed discard ration in the property at hand.
 	 * Only present when set explicitly through {@linkplain Property#maxDiscardRatio()}
@@ -109,6 +121,11 @@ public interface PropertyAttributes {
 
 	void setTries(Integer tries);
 
+	@API(status = EXPERIMENTAL, since = "1.5.2")
+	default void setMaxDuration(String maxDuration) {
+		throw new UnsupportedOperationException("Setting max duration is not supported by " + getClass().getName());
+	}
+
 	void setMaxDiscardRatio(Integer maxDiscardRatio);
 
 	void setShrinking(ShrinkingMode shrinkingMode);
@@ -79,10 +79,32 @@ public interface ArbitraryProvider {
 	}
 
 	/**
-	 * Return true if the provider is suitable for {@code targetType}
+	 * Return true if the provider is suitable for {@code targetType}.
+	 * <p>
+	 * The result is cached per target type. It must therefore only depend on {@code targetType}.
+	 * </p>
 	 */
 	boolean canProvideFor(TypeUsage targetType);
 
+	/**
+	 * Override to declare the raw types of all values this provider can create.
+	 * <p>
+	 * If this set is not empty {@linkplain #canProvideFor(TypeUsage)} will only be called
+	 * for target types that are type variables or wildcards or to which one of these types can be assigned.
+	 * This allows jqwik to look up fitting providers by type instead of asking every registered provider.
+	 * </p>
+	 * <p>
+	 * Return an empty set - the default - if this provider cannot know its types up front,
+	 * e.g. because it handles all enum or array types.
+	 * </p>
+	 *
+	 * @return set of raw types
+	 */
+	@API(status = EXPERIMENTAL, since = "1.5.2")
+	default Set<Class<?>> providedTypes() {
+		return Collections.emptySet();
+	}
+
 	/**
 	 * This is the method you must override in your own implementations of {@code ArbitraryProvider}.
 	 * It should return a set of arbitrary instances for a given {@code targetType}.
@@ -26,6 +26,17 @@ public interface ActionSequence<M> {
 	@API(status = EXPERIMENTAL, since = "1.3.3")
 	int size();
 
+	/**
+	 * The number of actions that were drawn while running the sequence
+	 * but skipped because their precondition did not hold.
+	 *
+	 * @return number of rejected actions
+	 */
+	@API(status = EXPERIMENTAL, since = "1.5.2")
+	default int rejectedActions() {
+		return 0;
+	}
+
 	/**
 	 * Add an unlabelled invariant to a sequence.
 	 *
@@ -1,5 +1,7 @@
 package net.jqwik.api.stateful;
 
+import java.util.function.*;
+
 import org.apiguardian.api.*;
 
 import net.jqwik.api.arbitraries.*;
@@ -17,4 +19,21 @@ public interface ActionSequenceArbitrary<M> extends SizableArbitrary<ActionSeque
 		return ofMinSize(size).ofMaxSize(size);
 	}
 
+	/**
+	 * Take snapshots of the model while running a sequence. When shrinking a sequence
+	 * candidates that start with the same actions can then resume from a snapshot
+	 * instead of running all these actions again.
+	 *
+	 * <p>
+	 * Resuming is only correct if running the same actions on the initial model always leads to an equal model.
+	 * A resumed sequence ignores the model handed to {@linkplain ActionSequence#run(Object)}
+	 * and does not check invariants or call peekers for the skipped actions.
+	 * </p>
+	 *
+	 * @param snapshot creates an independent copy of a model
+	 * @return new arbitrary instance
+	 */
+	@API(status = EXPERIMENTAL, since = "1.5.2")
+	ActionSequenceArbitrary<M> withModelSnapshots(Function<M, M> snapshot);
+
 }
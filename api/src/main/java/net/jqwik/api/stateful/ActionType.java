@@ -0,0 +1,77 @@
+package net.jqwik.api.stateful;
+
+import java.util.function.*;
+
+import org.apiguardian.api.*;
+
+import net.jqwik.api.*;
+
+import static org.apiguardian.api.API.Status.*;
+
+/**
+ * A type of actions that can only be run in model states that fulfill the type's precondition.
+ *
+ * <p>
+ * Action sequences created with {@linkplain Arbitraries#sequences(ActionType[])}
+ * only draw from action types whose precondition holds for the current model.
+ * Preconditions of the actions themselves are still checked after drawing.
+ * </p>
+ *
+ * @param <M> The type of the model
+ */
+@API(status = EXPERIMENTAL, since = "1.5.2")
+public final class ActionType<M> {
+
+	private final Arbitrary<Action<M>> actions;
+	private final Predicate<M> precondition;
+	private final int weight;
+
+	/**
+	 * Create an action type that is possible in all model states and has weight 1.
+	 *
+	 * @param actions The arbitrary to generate actions of this type
+	 * @param <M>     The type of the model
+	 * @return a new action type
+	 */
+	public static <M> ActionType<M> of(Arbitrary<? extends Action<M>> actions) {
+		//noinspection unchecked
+		return new ActionType<>((Arbitrary<Action<M>>) actions, model -> true, 1);
+	}
+
+	private ActionType(Arbitrary<Action<M>> actions, Predicate<M> precondition, int weight) {
+		if (weight < 1) {
+			throw new IllegalArgumentException("Weight of an action type must be at least 1");
+		}
+		this.actions = actions;
+		this.precondition = precondition;
+		this.weight = weight;
+	}
+
+	/**
+	 * @param precondition must hold for the current model so that actions of this type can be drawn
+	 * @return a new action type
+	 */
+	public ActionType<M> when(Predicate<M> precondition) {
+		return new ActionType<>(actions, precondition, weight);
+	}
+
+	/**
+	 * @param weight the relative frequency of this type among all types possible in a model state
+	 * @return a new action type
+	 */
+	public ActionType<M> withWeight(int weight) {
+		return new ActionType<>(actions, precondition, weight);
+	}
+
+	public Arbitrary<Action<M>> actions() {
+		return actions;
+	}
+
+	public boolean precondition(M model) {
+		return precondition.test(model);
+	}
+
+	public int weight() {
+		return weight;
+	}
+}
@@ -62,32 +62,36 @@ public class NumberRangeHistogram extends Histogram {
 	 */
 	@Override
 	final protected List<Bucket> cluster(final List<StatisticsEntry> entries) {
-		Tuple2<BigInteger, BigInteger> minMax = minMax(entries);
+		// Values are parsed only once since there can be many entries with high cardinality statistics
+		List<BigDecimal> values = values(entries);
+		Tuple2<BigInteger, BigInteger> minMax = minMax(values);
 		BigInteger min = minMax.get1();
 		BigInteger max = minMax.get2();
 
 		List<Tuple2<BigInteger, Bucket>> topsAndBuckets = topsAndBuckets(min, max);
+		BigDecimal[] tops = topsAndBuckets.stream().map(topAndBucket -> new BigDecimal(topAndBucket.get1())).toArray(BigDecimal[]::new);
 
-		for (StatisticsEntry entry : entries) {
-			Bucket bucket = findBucket(topsAndBuckets, value(entry));
-			bucket.addCount(entry.count());
+		for (int i = 0; i < entries.size(); i++) {
+			Bucket bucket = topsAndBuckets.get(findBucketIndex(tops, values.get(i))).get2();
+			bucket.addCount(entries.get(i).count());
 		}
 
 		return topsAndBuckets.stream().map(Tuple2::get2).collect(Collectors.toList());
 	}
 
-	private Bucket findBucket(List<Tuple2<BigInteger, Bucket>> topsAndBuckets, BigDecimal value) {
-		for (int i = 0; i < topsAndBuckets.size(); i++) {
-			Tuple2<BigInteger, Bucket> topAndBucket = topsAndBuckets.get(i);
-			BigInteger top = topAndBucket.get1();
-			if (value.compareTo(new BigDecimal(top)) < 0) {
-				return topAndBucket.get2();
-			}
-			if (i == topsAndBuckets.size() - 1) {
-				return topAndBucket.get2();
+	// Index of first top that is greater than value or of last bucket
+	private int findBucketIndex(BigDecimal[] tops, BigDecimal value) {
+		int low = 0;
+		int high = tops.length - 1;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (value.compareTo(tops[middle]) < 0) {
+				high = middle;
+			} else {
+				low = middle + 1;
 			}
 		}
-		throw new RuntimeException(String.format("No bucket found for value [%s]", value));
+		return low;
 	}
 
 	private List<Tuple2<BigInteger, Bucket>> topsAndBuckets(final BigInteger min, final BigInteger max) {
@@ -111,24 +115,31 @@ public class NumberRangeHistogram extends Histogram {
 		return topsAndBuckets;
 	}
 
-	private Tuple2<BigInteger, BigInteger> minMax(final List<StatisticsEntry> entries) {
-		BigDecimal min = null;
-		BigDecimal max = null;
-
+	private List<BigDecimal> values(final List<StatisticsEntry> entries) {
+		List<BigDecimal> values = new ArrayList<>(entries.size());
 		for (StatisticsEntry entry : entries) {
 			try {
-				BigDecimal value = value(entry);
-				if (min == null || value.compareTo(min) < 0) {
-					min = value;
-				}
-				if (max == null || value.compareTo(max) > 0) {
-					max = value;
-				}
+				values.add(value(entry));
 			} catch (NumberFormatException numberFormatException) {
 				String message = String.format("NumberRangeHistogram instances only accept numeric values. [%s] is not numeric.", entry.values().get(0));
 				throw new JqwikException(message);
 			}
 		}
+		return values;
+	}
+
+	private Tuple2<BigInteger, BigInteger> minMax(final List<BigDecimal> values) {
+		BigDecimal min = null;
+		BigDecimal max = null;
+
+		for (BigDecimal value : values) {
+			if (min == null || value.compareTo(min) < 0) {
+				min = value;
+			}
+			if (max == null || value.compareTo(max) > 0) {
+				max = value;
+			}
+		}
 
 		BigInteger maxBigInteger = max.setScale(0, RoundingMode.UP).toBigInteger();
 		return Tuple.of(min.toBigInteger(), maxBigInteger);
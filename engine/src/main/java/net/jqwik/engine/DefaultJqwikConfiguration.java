@@ -28,12 +28,14 @@ public class DefaultJqwikConfiguration implements JqwikConfiguration {
 	public PropertyAttributesDefaults propertyDefaultValues() {
 		return PropertyAttributesDefaults.with(
 			properties.defaultTries(),
+			properties.defaultMaxDuration(),
 			properties.defaultMaxDiscardRatio(),
 			properties.defaultAfterFailure(),
 			properties.defaultGeneration(),
 			properties.defaultEdgeCases(),
 			properties.defaultShrinking(),
 			properties.boundedShrinkingSeconds(),
+			properties.shrinkingTraceDirectory(),
 			properties.fixedSeedMode()
 		);
 	}
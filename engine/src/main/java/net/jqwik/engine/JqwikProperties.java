@@ -1,6 +1,7 @@
 package net.jqwik.engine;
 
 import java.io.*;
+import java.time.*;
 import java.util.*;
 import java.util.function.*;
 import java.util.logging.*;
@@ -9,6 +10,7 @@ import org.junit.platform.engine.*;
 import org.junit.platform.engine.support.config.*;
 
 import net.jqwik.api.*;
+import net.jqwik.engine.support.*;
 
 public class JqwikProperties {
 
@@ -21,6 +23,7 @@ public class JqwikProperties {
 		priorNames.put("database", "database");
 		priorNames.put("failures.runfirst", "runFailuresFirst");
 		priorNames.put("tries.default", "defaultTries");
+		priorNames.put("maxduration.default", "defaultMaxDuration");
 		priorNames.put("maxdiscardratio.default", "defaultMaxDiscardRatio");
 		priorNames.put("reporting.usejunitplatform", "useJunitPlatformReporter");
 		priorNames.put("failures.after.default", "defaultAfterFailure");
@@ -38,6 +41,7 @@ public class JqwikProperties {
 
 	private static final String DEFAULT_DATABASE_PATH = ".jqwik-database";
 	private static final boolean DEFAULT_RERUN_FAILURES_FIRST = false;
+	private static final Duration DEFAULT_MAX_DURATION = Duration.ZERO;
 	private static final int DEFAULT_MAX_DISCARD_RATIO = 5;
 	private static final AfterFailureMode DEFAULT_AFTER_FAILURE = AfterFailureMode.PREVIOUS_SEED;
 	private static final boolean DEFAULT_REPORT_ONLY_FAILURES = false;
@@ -53,6 +57,7 @@ public class JqwikProperties {
 	private final String databasePath;
 	private final boolean runFailuresFirst;
 	private final int defaultTries;
+	private final Duration defaultMaxDuration;
 	private final int defaultMaxDiscardRatio;
 	private final boolean useJunitPlatformReporter;
 	private final AfterFailureMode defaultAfterFailure;
@@ -61,6 +66,7 @@ public class JqwikProperties {
 	private final EdgeCasesMode defaultEdgeCases;
 	private final ShrinkingMode defaultShrinking;
 	private final int boundedShrinkingSeconds;
+	private final String shrinkingTraceDirectory;
 	private final FixedSeedMode fixedSeedMode;
 
 	public String databasePath() {
@@ -75,6 +81,10 @@ public class JqwikProperties {
 		return defaultTries;
 	}
 
+	public Duration defaultMaxDuration() {
+		return defaultMaxDuration;
+	}
+
 	public int defaultMaxDiscardRatio() {
 		return defaultMaxDiscardRatio;
 	}
@@ -107,6 +117,10 @@ public class JqwikProperties {
 		return boundedShrinkingSeconds;
 	}
 
+	public String shrinkingTraceDirectory() {
+		return shrinkingTraceDirectory;
+	}
+
 	public FixedSeedMode fixedSeedMode() {
 		return fixedSeedMode;
 	}
@@ -115,6 +129,7 @@ public class JqwikProperties {
 		databasePath = parameters.get("database").orElse(DEFAULT_DATABASE_PATH);
 		runFailuresFirst = parameters.getBoolean("failures.runfirst").orElse(DEFAULT_RERUN_FAILURES_FIRST);
 		defaultTries = parameters.get("tries.default", Integer::parseInt).orElse(DEFAULT_TRIES);
+		defaultMaxDuration = parameters.get("maxduration.default", JqwikDurationSupport::parse).orElse(DEFAULT_MAX_DURATION);
 		defaultMaxDiscardRatio = parameters.get("maxdiscardratio.default", Integer::parseInt).orElse(DEFAULT_MAX_DISCARD_RATIO);
 		useJunitPlatformReporter = parameters.getBoolean("reporting.usejunitplatform").orElse(DEFAULT_USE_JUNIT_PLATFORM_REPORTER);
 		defaultAfterFailure = parameters.get("failures.after.default", AfterFailureMode::valueOf).orElse(DEFAULT_AFTER_FAILURE);
@@ -123,6 +138,7 @@ public class JqwikProperties {
 		defaultEdgeCases = parameters.get("edgecases.default", EdgeCasesMode::valueOf).orElse(DEFAULT_EDGE_CASES);
 		defaultShrinking = parameters.get("shrinking.default", ShrinkingMode::valueOf).orElse(DEFAULT_SHRINKING);
 		boundedShrinkingSeconds = parameters.get("shrinking.bounded.seconds", Integer::parseInt).orElse(DEFAULT_BOUNDED_SHRINKING_SECONDS);
+		shrinkingTraceDirectory = parameters.get("shrinking.trace.directory").filter(path -> !path.trim().isEmpty()).orElse(null);
 		fixedSeedMode = parameters.get("seeds.whenfixed", FixedSeedMode::valueOf).orElse(FixedSeedMode.ALLOW);
 	}
 
@@ -1,5 +1,7 @@
 package net.jqwik.engine;
 
+import java.time.*;
+
 import net.jqwik.api.*;
 
 public interface PropertyAttributesDefaults {
@@ -7,6 +9,10 @@ public interface PropertyAttributesDefaults {
 	String DEFAULT_STEREOTYPE = "Property";
 
 	int tries();
+
+	// Duration.ZERO means that there is no time budget
+	Duration maxDuration();
+
 	int maxDiscardRatio();
 
 	ShrinkingMode shrinking();
@@ -19,14 +25,19 @@ public interface PropertyAttributesDefaults {
 	// This is currently a global parameter
 	int boundedShrinkingSeconds();
 
+	// This is currently a global parameter. null means that no shrinking traces are written.
+	String shrinkingTraceDirectory();
+
 	static PropertyAttributesDefaults with(
 		int tries,
+		Duration maxDuration,
 		int maxDiscardRatio,
 		AfterFailureMode afterFailureMode,
 		GenerationMode generationMode,
 		EdgeCasesMode edgeCasesMode,
 		ShrinkingMode shrinkingMode,
 		int boundedShrinkingSeconds,
+		String shrinkingTraceDirectory,
 		FixedSeedMode fixedSeedMode
 	) {
 		return new PropertyAttributesDefaults() {
@@ -35,6 +46,11 @@ public interface PropertyAttributesDefaults {
 				return tries;
 			}
 
+			@Override
+			public Duration maxDuration() {
+				return maxDuration;
+			}
+
 			@Override
 			public int maxDiscardRatio() {
 				return maxDiscardRatio;
@@ -70,6 +86,11 @@ public interface PropertyAttributesDefaults {
 				return boundedShrinkingSeconds;
 			}
 
+			@Override
+			public String shrinkingTraceDirectory() {
+				return shrinkingTraceDirectory;
+			}
+
 			@Override
 			public FixedSeedMode whenFixedSeed() {
 				return fixedSeedMode;
@@ -1,10 +1,12 @@
 package net.jqwik.engine.descriptor;
 
+import java.time.*;
 import java.util.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
 import net.jqwik.engine.*;
+import net.jqwik.engine.support.*;
 
 public class PropertyConfiguration {
 
@@ -98,6 +100,12 @@ public class PropertyConfiguration {
 		return propertyAttributes.tries().orElse(propertyAttributesDefaults.tries());
 	}
 
+	public Duration getMaxDuration() {
+		return propertyAttributes.maxDuration()
+								 .map(JqwikDurationSupport::parse)
+								 .orElse(propertyAttributesDefaults.maxDuration());
+	}
+
 	public String getSeed() {
 		if (overriddenSeed != null) {
 			return overriddenSeed;
@@ -145,6 +153,11 @@ public class PropertyConfiguration {
 		return propertyAttributesDefaults.boundedShrinkingSeconds();
 	}
 
+	// This is currently a global value and not property specific
+	public Optional<String> shrinkingTraceDirectory() {
+		return Optional.ofNullable(propertyAttributesDefaults.shrinkingTraceDirectory());
+	}
+
 	public FixedSeedMode getFixedSeedMode() {
 		return propertyAttributes.whenFixedSeed().orElse(propertyAttributesDefaults.whenFixedSeed());
 	}
@@ -11,6 +11,10 @@ public class DefaultPropertyAttributes implements PropertyAttributes {
 							? null
 							: property.tries();
 
+		String maxDuration = property.maxDuration().equals(Property.MAX_DURATION_NOT_SET)
+								 ? null
+								 : property.maxDuration();
+
 		Integer maxDiscardRatio = property.maxDiscardRatio() == Property.MAX_DISCARD_RATIO_NOT_SET
 									  ? null
 									  : property.maxDiscardRatio();
@@ -45,6 +49,7 @@ public class DefaultPropertyAttributes implements PropertyAttributes {
 
 		return new DefaultPropertyAttributes(
 			tries,
+			maxDuration,
 			maxDiscardRatio,
 			shrinking,
 			generation,
@@ -57,6 +62,7 @@ public class DefaultPropertyAttributes implements PropertyAttributes {
 	}
 
 	private Integer tries;
+	private String maxDuration;
 	private Integer maxDiscardRatio;
 	private ShrinkingMode shrinkingMode;
 	private GenerationMode generationMode;
@@ -69,6 +75,7 @@ public class DefaultPropertyAttributes implements PropertyAttributes {
 	// Only public for testing purposes
 	public DefaultPropertyAttributes(
 			Integer tries,
+			String maxDuration,
 			Integer maxDiscardRatio,
 			ShrinkingMode shrinkingMode,
 			GenerationMode generationMode,
@@ -79,6 +86,7 @@ public class DefaultPropertyAttributes implements PropertyAttributes {
 			FixedSeedMode whenFixedSeed
 	) {
 		this.tries = tries;
+		this.maxDuration = maxDuration;
 		this.maxDiscardRatio = maxDiscardRatio;
 		this.shrinkingMode = shrinkingMode;
 		this.generationMode = generationMode;
@@ -94,6 +102,11 @@ public class DefaultPropertyAttributes implements PropertyAttributes {
 		return Optional.ofNullable(tries);
 	}
 
+	@Override
+	public Optional<String> maxDuration() {
+		return Optional.ofNullable(maxDuration);
+	}
+
 	@Override
 	public Optional<Integer> maxDiscardRatio() {
 		return Optional.ofNullable(maxDiscardRatio);
@@ -139,6 +152,11 @@ public class DefaultPropertyAttributes implements PropertyAttributes {
 		this.tries = tries;
 	}
 
+	@Override
+	public void setMaxDuration(String maxDuration) {
+		this.maxDuration = maxDuration;
+	}
+
 	@Override
 	public void setMaxDiscardRatio(Integer maxDiscardRatio) {
 		this.maxDiscardRatio = maxDiscardRatio;
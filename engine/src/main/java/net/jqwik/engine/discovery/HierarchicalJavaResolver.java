@@ -7,6 +7,7 @@ import java.util.function.*;
 import java.util.logging.*;
 
 import org.junit.platform.engine.*;
+import org.junit.platform.engine.support.descriptor.*;
 
 import net.jqwik.engine.*;
 import net.jqwik.engine.descriptor.*;
@@ -29,9 +30,73 @@ class HierarchicalJavaResolver {
 	private final TestDescriptor engineDescriptor;
 	private final Set<ElementResolver> resolvers;
 
+	// Looking up descriptors in the tree itself would visit all descriptors resolved so far
+	private final Map<UniqueId, TestDescriptor> descriptorsByUniqueId = new HashMap<>();
+
 	HierarchicalJavaResolver(TestDescriptor engineDescriptor, Set<ElementResolver> resolvers) {
 		this.engineDescriptor = engineDescriptor;
 		this.resolvers = resolvers;
+		engineDescriptor.getDescendants().forEach(this::rememberDescriptor);
+	}
+
+	/**
+	 * Resolve classes found by scanning modules, class path roots or packages.
+	 *
+	 * <p>
+	 * Top level containers are independent of each other and are therefore resolved concurrently,
+	 * each one below its own detached engine descriptor. Resolved containers are then added
+	 * to the engine descriptor in the order of {@code testClasses}.
+	 * </p>
+	 *
+	 * @return the resolution results in the order of {@code testClasses}
+	 */
+	List<SelectorResolutionResult> resolveClasses(List<Class<?>> testClasses) {
+		List<DetachedResolution> detachedResolutions =
+			testClasses.parallelStream()
+					   .map(this::resolveDetached)
+					   .collect(toList());
+
+		List<SelectorResolutionResult> results = new ArrayList<>();
+		for (int i = 0; i < testClasses.size(); i++) {
+			DetachedResolution detachedResolution = detachedResolutions.get(i);
+			if (detachedResolution != null && canBeAttached(detachedResolution)) {
+				attach(detachedResolution);
+				results.add(detachedResolution.result);
+			} else {
+				results.add(resolveClass(testClasses.get(i)));
+			}
+		}
+		return results;
+	}
+
+	private DetachedResolution resolveDetached(Class<?> testClass) {
+		if (isContainerAGroup.test(testClass)) {
+			return null;
+		}
+		TestDescriptor detachedEngine = new EngineDescriptor(engineDescriptor.getUniqueId(), engineDescriptor.getDisplayName());
+		SelectorResolutionResult result = new HierarchicalJavaResolver(detachedEngine, resolvers).resolveClass(testClass);
+		return new DetachedResolution(detachedEngine, result);
+	}
+
+	private boolean canBeAttached(DetachedResolution detachedResolution) {
+		return detachedResolution.engine
+				   .getChildren()
+				   .stream()
+				   .noneMatch(container -> descriptorsByUniqueId.containsKey(container.getUniqueId()));
+	}
+
+	private void attach(DetachedResolution detachedResolution) {
+		List<TestDescriptor> containers = new ArrayList<>(detachedResolution.engine.getChildren());
+		for (TestDescriptor container : containers) {
+			detachedResolution.engine.removeChild(container);
+			engineDescriptor.addChild(container);
+			rememberDescriptor(container);
+			container.getDescendants().forEach(this::rememberDescriptor);
+		}
+	}
+
+	private void rememberDescriptor(TestDescriptor descriptor) {
+		descriptorsByUniqueId.put(descriptor.getUniqueId(), descriptor);
 	}
 
 	SelectorResolutionResult resolveClass(Class<?> testClass) {
@@ -125,6 +190,7 @@ class HierarchicalJavaResolver {
 			TestDescriptor descriptor = foundTestDescriptor.orElseGet(() -> {
 				TestDescriptor newDescriptor = resolvedDescriptor.get();
 				parent.addChild(newDescriptor);
+				rememberDescriptor(newDescriptor);
 				return newDescriptor;
 			});
 			return resolveUniqueId(descriptor, remainingSegments);
@@ -186,6 +252,7 @@ class HierarchicalJavaResolver {
 				result.add(existingTestDescriptor.get());
 			} else {
 				parent.addChild(testDescriptor);
+				rememberDescriptor(testDescriptor);
 				result.add(testDescriptor);
 			}
 		});
@@ -193,9 +260,17 @@ class HierarchicalJavaResolver {
 		return result;
 	}
 
-	@SuppressWarnings("unchecked")
 	private Optional<TestDescriptor> findTestDescriptorByUniqueId(UniqueId uniqueId) {
-		return (Optional<TestDescriptor>) this.engineDescriptor.findByUniqueId(uniqueId);
+		return Optional.ofNullable(descriptorsByUniqueId.get(uniqueId));
 	}
 
+	private static class DetachedResolution {
+		private final TestDescriptor engine;
+		private final SelectorResolutionResult result;
+
+		private DetachedResolution(TestDescriptor engine, SelectorResolutionResult result) {
+			this.engine = engine;
+			this.result = result;
+		}
+	}
 }
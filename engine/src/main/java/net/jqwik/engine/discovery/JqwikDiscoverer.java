@@ -31,34 +31,16 @@ public class JqwikDiscoverer {
 		Predicate<String> classNamePredicate = buildClassNamePredicate(request);
 
 		request.getSelectorsByType(ModuleSelector.class).forEach(selector -> {
-			findAllClassesInModule(selector.getModuleName(), isScannableTestClass, classNamePredicate)
-				.forEach(testClass -> {
-					discoveryListener.selectorProcessed(
-						engineDescriptor.getUniqueId(),
-						selector,
-						javaElementsResolver.resolveClass(testClass)
-					);
-				});
+			List<Class<?>> testClasses = findAllClassesInModule(selector.getModuleName(), isScannableTestClass, classNamePredicate);
+			resolveClasses(testClasses, selector, javaElementsResolver, discoveryListener, engineDescriptor);
 		});
 		request.getSelectorsByType(ClasspathRootSelector.class).forEach(selector -> {
-			findAllClassesInClasspathRoot(selector.getClasspathRoot(), isScannableTestClass, classNamePredicate)
-				.forEach(testClass -> {
-					discoveryListener.selectorProcessed(
-						engineDescriptor.getUniqueId(),
-						selector,
-						javaElementsResolver.resolveClass(testClass)
-					);
-				});
+			List<Class<?>> testClasses = findAllClassesInClasspathRoot(selector.getClasspathRoot(), isScannableTestClass, classNamePredicate);
+			resolveClasses(testClasses, selector, javaElementsResolver, discoveryListener, engineDescriptor);
 		});
 		request.getSelectorsByType(PackageSelector.class).forEach(selector -> {
-			findAllClassesInPackage(selector.getPackageName(), isScannableTestClass, classNamePredicate)
-				.forEach(testClass -> {
-					discoveryListener.selectorProcessed(
-						engineDescriptor.getUniqueId(),
-						selector,
-						javaElementsResolver.resolveClass(testClass)
-					);
-				});
+			List<Class<?>> testClasses = findAllClassesInPackage(selector.getPackageName(), isScannableTestClass, classNamePredicate);
+			resolveClasses(testClasses, selector, javaElementsResolver, discoveryListener, engineDescriptor);
 		});
 		request.getSelectorsByType(ClassSelector.class).forEach(selector -> {
 			discoveryListener.selectorProcessed(
@@ -83,6 +65,17 @@ public class JqwikDiscoverer {
 		});
 	}
 
+	private void resolveClasses(
+		List<Class<?>> testClasses,
+		DiscoverySelector selector,
+		HierarchicalJavaResolver javaElementsResolver,
+		EngineDiscoveryListener discoveryListener,
+		TestDescriptor engineDescriptor
+	) {
+		List<SelectorResolutionResult> results = javaElementsResolver.resolveClasses(testClasses);
+		results.forEach(result -> discoveryListener.selectorProcessed(engineDescriptor.getUniqueId(), selector, result));
+	}
+
 	private HierarchicalJavaResolver createHierarchicalResolver(TestDescriptor engineDescriptor) {
 		Set<ElementResolver> resolvers = new HashSet<>();
 		resolvers.add(new TopLevelContainerResolver());
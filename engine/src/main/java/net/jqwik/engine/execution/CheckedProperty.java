@@ -131,6 +131,8 @@ public class CheckedProperty {
 
 		if (configuration.getGenerationMode() == GenerationMode.RANDOMIZED) {
 			ensureValidRandomizedMode();
+		} else if (configuration.getGenerationMode() == GenerationMode.GUIDED) {
+			ensureValidGuidedMode();
 		} else if (configuration.getGenerationMode() == GenerationMode.DATA_DRIVEN) {
 			ensureValidDataDrivenMode();
 		} else if (configuration.getGenerationMode() == GenerationMode.EXHAUSTIVE) {
@@ -171,6 +173,8 @@ public class CheckedProperty {
 				return getOptionalExhaustive().get();
 			case DATA_DRIVEN:
 				return createDataBasedShrinkablesGenerator(configuration);
+			case GUIDED:
+				return createGuidedShrinkablesGenerator(configuration);
 			default:
 				return createRandomizedShrinkablesGenerator(configuration);
 		}
@@ -182,6 +186,12 @@ public class CheckedProperty {
 		}
 	}
 
+	private void ensureValidGuidedMode() {
+		if (optionalData.isPresent()) {
+			throw new JqwikException("You cannot have both a @FromData annotation and @Property(generation = GUIDED)");
+		}
+	}
+
 	private void ensureValidExhaustiveMode() {
 		if (optionalData.isPresent()) {
 			throw new JqwikException("You cannot have both a @FromData annotation and @Property(generation = EXHAUSTIVE)");
@@ -232,6 +242,10 @@ public class CheckedProperty {
 
 	private ForAllParametersGenerator createRandomizedShrinkablesGenerator(PropertyConfiguration configuration) {
 		Random random = SourceOfRandomness.create(configuration.getSeed());
+		return createRandomizedShrinkablesGenerator(configuration, random);
+	}
+
+	private RandomizedShrinkablesGenerator createRandomizedShrinkablesGenerator(PropertyConfiguration configuration, Random random) {
 		return RandomizedShrinkablesGenerator.forParameters(
 				forAllParameters,
 				arbitraryResolver,
@@ -241,6 +255,15 @@ public class CheckedProperty {
 		);
 	}
 
+	private ForAllParametersGenerator createGuidedShrinkablesGenerator(PropertyConfiguration configuration) {
+		Random random = SourceOfRandomness.create(configuration.getSeed());
+		return new GuidedShrinkablesGenerator(
+			forAllParameters,
+			createRandomizedShrinkablesGenerator(configuration, random),
+			random
+		);
+	}
+
 	private ForAllParametersGenerator createSampleOnlyShrinkableGenerator(PropertyConfiguration configuration) {
 		return new SampleOnlyShrinkablesGenerator(forAllParameters, configuration.getFalsifiedSample());
 	}
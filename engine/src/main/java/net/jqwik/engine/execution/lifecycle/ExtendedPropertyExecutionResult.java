@@ -13,6 +13,11 @@ public interface ExtendedPropertyExecutionResult extends PropertyExecutionResult
 
 	EdgeCasesExecutionResult edgeCases();
 
+	/**
+	 * @return true if trying was stopped because the property's time budget had been used up
+	 */
+	boolean maxDurationReached();
+
 	class EdgeCasesExecutionResult {
 
 		private final EdgeCasesMode mode;
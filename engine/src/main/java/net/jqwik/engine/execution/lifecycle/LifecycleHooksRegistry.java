@@ -23,9 +23,13 @@ public class LifecycleHooksRegistry implements LifecycleHooksSupplier {
 		return (a, b) -> 0;
 	}
 
-	private final List<HookRegistration> registrations = new ArrayList<>();
+	private final Set<HookRegistration> registrations = new HashSet<>();
+	private final Map<TestDescriptor, List<HookRegistration>> registrationsByDescriptor = new HashMap<>();
 	private final Map<Class<? extends LifecycleHook>, LifecycleHook> instances = new HashMap<>();
 
+	// Hooks are resolved lazily per descriptor and hook type and dropped whenever a new hook is registered
+	private final Map<TestDescriptor, Map<Class<? extends LifecycleHook>, List<? extends LifecycleHook>>> resolvedHooks = new HashMap<>();
+
 	@Override
 	public AroundPropertyHook aroundPropertyHook(PropertyMethodDescriptor propertyMethodDescriptor) {
 		List<AroundPropertyHook> aroundPropertyHooks = findHooks(propertyMethodDescriptor, AroundPropertyHook.class, AroundPropertyHook::compareTo);
@@ -62,14 +66,22 @@ public class LifecycleHooksRegistry implements LifecycleHooksSupplier {
 		return HookSupport.combineSkipExecutionHooks(skipExecutionHooks);
 	}
 
+	@SuppressWarnings("unchecked")
 	private <T extends LifecycleHook> List<T> findHooks(TestDescriptor descriptor, Class<T> hookType, Comparator<T> comparator) {
+		Map<Class<? extends LifecycleHook>, List<? extends LifecycleHook>> hooksOfDescriptor =
+			resolvedHooks.computeIfAbsent(descriptor, ignore -> new HashMap<>());
+		return (List<T>) hooksOfDescriptor.computeIfAbsent(hookType, ignore -> resolveHooks(descriptor, hookType, comparator));
+	}
+
+	private <T extends LifecycleHook> List<T> resolveHooks(TestDescriptor descriptor, Class<T> hookType, Comparator<T> comparator) {
 		List<Class<T>> hookClasses = findHookClasses(descriptor, hookType);
-		return hookClasses
-				   .stream()
-				   .map(this::getHook)
-				   .filter(hook -> hookAppliesTo(hook, descriptor))
-				   .sorted(comparator)
-				   .collect(Collectors.toList());
+		List<T> hooks = hookClasses
+							.stream()
+							.map(this::getHook)
+							.filter(hook -> hookAppliesTo(hook, descriptor))
+							.sorted(comparator)
+							.collect(Collectors.toList());
+		return Collections.unmodifiableList(hooks);
 	}
 
 	private <T extends LifecycleHook> boolean hookAppliesTo(T hook, TestDescriptor descriptor) {
@@ -100,15 +112,31 @@ public class LifecycleHooksRegistry implements LifecycleHooksSupplier {
 
 	@SuppressWarnings("unchecked")
 	private <T extends LifecycleHook> List<Class<T>> findHookClasses(TestDescriptor descriptor, Class<T> hookType) {
-		return registrations
+		return findRegistrations(descriptor)
 				   .stream()
-				   .filter(registration -> registration.match(descriptor))
 				   .filter(registration -> registration.match(hookType))
 				   .map(registration -> (Class<T>) registration.hookClass)
 				   .distinct()
 				   .collect(Collectors.toList());
 	}
 
+	private List<HookRegistration> findRegistrations(TestDescriptor descriptor) {
+		List<HookRegistration> matchingRegistrations = new ArrayList<>();
+		TestDescriptor current = descriptor;
+		int nesting = 0;
+		while (current != null) {
+			for (HookRegistration registration : registrationsByDescriptor.getOrDefault(current, Collections.emptyList())) {
+				if (registration.propagatesTo(nesting)) {
+					matchingRegistrations.add(registration);
+				}
+			}
+			current = current.getParent().orElse(null);
+			nesting++;
+		}
+		matchingRegistrations.sort(Comparator.comparingInt(registration -> registration.order));
+		return matchingRegistrations;
+	}
+
 	/**
 	 * Use only for registering lifecycles through Java's ServiceLoader mechanism
 	 */
@@ -126,9 +154,10 @@ public class LifecycleHooksRegistry implements LifecycleHooksSupplier {
 		Class<? extends LifecycleHook> hookClass,
 		PropagationMode propagateTo
 	) {
-		HookRegistration registration = new HookRegistration(descriptor, hookClass, propagateTo);
-		if (!registrations.contains(registration)) {
-			registrations.add(registration);
+		HookRegistration registration = new HookRegistration(descriptor, hookClass, propagateTo, registrations.size());
+		if (registrations.add(registration)) {
+			registrationsByDescriptor.computeIfAbsent(descriptor, ignore -> new ArrayList<>()).add(registration);
+			resolvedHooks.clear();
 		}
 	}
 
@@ -179,11 +208,13 @@ public class LifecycleHooksRegistry implements LifecycleHooksSupplier {
 		private final TestDescriptor descriptor;
 		private final Class<? extends LifecycleHook> hookClass;
 		private final PropagationMode propagationMode;
+		private final int order;
 
 		private HookRegistration(
 			TestDescriptor descriptor,
 			Class<? extends LifecycleHook> hookClass,
-			PropagationMode propagationMode
+			PropagationMode propagationMode,
+			int order
 		) {
 			if (propagationMode == NOT_SET) {
 				throw new IllegalArgumentException("propagation mode must be set by caller");
@@ -191,26 +222,17 @@ public class LifecycleHooksRegistry implements LifecycleHooksSupplier {
 			this.descriptor = descriptor;
 			this.hookClass = hookClass;
 			this.propagationMode = propagationMode;
+			this.order = order;
 		}
 
-		boolean match(TestDescriptor descriptor) {
-			return match(descriptor, 0);
-		}
-
-		private boolean match(TestDescriptor descriptor, int nesting) {
-			if (descriptor == null) {
-				return false;
-			}
+		/**
+		 * @param nesting the distance between this registration's descriptor and a descendant
+		 */
+		boolean propagatesTo(int nesting) {
 			if (nesting > 0 && (propagationMode == NO_DESCENDANTS)) {
 				return false;
 			}
-			if (nesting > 1 && (propagationMode != ALL_DESCENDANTS)) {
-				return false;
-			}
-			if (this.descriptor.equals(descriptor)) {
-				return true;
-			}
-			return match(descriptor.getParent().orElse(null), nesting + 1);
+			return nesting <= 1 || propagationMode == ALL_DESCENDANTS;
 		}
 
 		boolean match(Class<? extends LifecycleHook> hookType) {
@@ -100,6 +100,11 @@ public class PlainExecutionResult implements ExtendedPropertyExecutionResult {
 		return new EdgeCasesExecutionResult(EdgeCasesMode.NOT_SET, 0, 0);
 	}
 
+	@Override
+	public boolean maxDurationReached() {
+		return false;
+	}
+
 	@Override
 	public String randomSeed() {
 		return Long.toString(0L);
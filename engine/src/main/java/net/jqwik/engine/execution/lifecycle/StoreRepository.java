@@ -27,7 +27,9 @@ public class StoreRepository {
 
 	private final Set<ScopedStore<?>> stores = new HashSet<>();
 
-	public <T> ScopedStore<T> create(
+	private long storeAccesses = 0;
+
+	public synchronized <T> ScopedStore<T> create(
 		TestDescriptor scope,
 		Object identifier,
 		Lifespan lifespan,
@@ -45,6 +47,7 @@ public class StoreRepository {
 		if (identifier == null) {
 			throw new IllegalArgumentException("identifier must not be null");
 		}
+		storeAccesses++;
 		ScopedStore<T> store = new ScopedStore<>(identifier, lifespan, scope, initializer);
 		addStore(identifier, store);
 		return store;
@@ -74,10 +77,11 @@ public class StoreRepository {
 		return store.isVisibleFor(newStore.getScope()) || newStore.isVisibleFor(store.getScope());
 	}
 
-	public <T> Optional<ScopedStore<T>> get(TestDescriptor retriever, Object identifier) {
+	public synchronized <T> Optional<ScopedStore<T>> get(TestDescriptor retriever, Object identifier) {
 		if (identifier == null) {
 			throw new IllegalArgumentException("identifier must not be null");
 		}
+		storeAccesses++;
 
 		//noinspection unchecked
 		return stores.stream()
@@ -87,7 +91,19 @@ public class StoreRepository {
 					 .findFirst();
 	}
 
-	public void finishScope(TestDescriptor scope) {
+	public synchronized int numberOfStores() {
+		return stores.size();
+	}
+
+	/**
+	 * The number of stores created or retrieved so far.
+	 * Allows to find out if an object might hold on to a store it has accessed during its creation.
+	 */
+	public synchronized long storeAccesses() {
+		return storeAccesses;
+	}
+
+	public synchronized void finishScope(TestDescriptor scope) {
 		List<ScopedStore<?>> storesToRemove =
 			stores
 				.stream()
@@ -104,7 +120,7 @@ public class StoreRepository {
 		return store.getScope().equals(scope) || scope.getDescendants().contains(store.getScope());
 	}
 
-	public void finishProperty(TestDescriptor scope) {
+	public synchronized void finishProperty(TestDescriptor scope) {
 		stores
 			.stream()
 			.filter(store -> store.lifespan() == Lifespan.PROPERTY)
@@ -112,7 +128,7 @@ public class StoreRepository {
 			.forEach(Store::reset);
 	}
 
-	public void finishTry(TestDescriptor scope) {
+	public synchronized void finishTry(TestDescriptor scope) {
 		stores
 			.stream()
 			.filter(store -> store.lifespan() == Lifespan.TRY)
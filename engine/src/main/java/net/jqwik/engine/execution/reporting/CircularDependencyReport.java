@@ -12,7 +12,7 @@ class CircularDependencyReport extends ValueReport {
 	}
 
 	@Override
-	public String singleLineReport() {
+	protected String createSingleLineReport() {
 		return String.format("circular-dependency<%s@%s>", label.orElse(value.getClass().getName()), System.identityHashCode(value));
 	}
 
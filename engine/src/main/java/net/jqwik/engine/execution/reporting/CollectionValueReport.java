@@ -15,7 +15,7 @@ class CollectionValueReport extends ValueReport {
 	}
 
 	@Override
-	public String singleLineReport() {
+	protected String createSingleLineReport() {
 		return label.orElse("") + "[" + singleLineCollection() + "]";
 	}
 
@@ -16,6 +16,7 @@ public class ExecutionResultReport {
 
 	private static final String TRIES_KEY = "tries";
 	private static final String CHECKS_KEY = "checks";
+	private static final String MAX_DURATION_KEY = "max-duration";
 	private static final String GENERATION_KEY = "generation";
 	private static final String EDGE_CASES_MODE_KEY = "edge-cases#mode";
 	private static final String EDGE_CASES_TOTAL_KEY = "edge-cases#total";
@@ -32,23 +33,21 @@ public class ExecutionResultReport {
 		ExtendedPropertyExecutionResult executionResult
 	) {
 		return buildJqwikReport(
-				methodDescriptor.getConfiguration().getAfterFailureMode(),
-				methodDescriptor.getConfiguration().getFixedSeedMode(),
+				methodDescriptor.getConfiguration(),
 				methodDescriptor.getTargetMethod(),
 				executionResult
 		);
 	}
 
 	private static String buildJqwikReport(
-			AfterFailureMode afterFailureMode,
-			FixedSeedMode fixedSeedMode,
+			PropertyConfiguration configuration,
 			Method propertyMethod,
 			ExtendedPropertyExecutionResult executionResult
 	) {
 		StringBuilder reportLines = new StringBuilder();
 
 		appendThrowableMessage(reportLines, executionResult);
-		appendFixedSizedProperties(reportLines, executionResult, afterFailureMode, fixedSeedMode);
+		appendFixedSizedProperties(reportLines, executionResult, configuration);
 		appendSamples(reportLines, propertyMethod, executionResult);
 
 		return reportLines.toString();
@@ -105,9 +104,10 @@ public class ExecutionResultReport {
 	private static void appendFixedSizedProperties(
 			StringBuilder reportLines,
 			ExtendedPropertyExecutionResult executionResult,
-			AfterFailureMode afterFailureMode,
-			FixedSeedMode fixedSeedMode
+			PropertyConfiguration configuration
 	) {
+		AfterFailureMode afterFailureMode = configuration.getAfterFailureMode();
+		FixedSeedMode fixedSeedMode = configuration.getFixedSeedMode();
 		List<String> propertiesLines = new ArrayList<>();
 		int countTries = 0;
 		int countChecks = 0;
@@ -129,6 +129,10 @@ public class ExecutionResultReport {
 
 		appendProperty(propertiesLines, TRIES_KEY, Integer.toString(countTries), "# of calls to property");
 		appendProperty(propertiesLines, CHECKS_KEY, Integer.toString(countChecks), "# of not rejected calls");
+		if (executionResult.isExtended() && executionResult.maxDurationReached()) {
+			String maxDuration = JqwikDurationSupport.displayString(configuration.getMaxDuration());
+			appendProperty(propertiesLines, MAX_DURATION_KEY, maxDuration, "tries stopped when time budget was used up");
+		}
 		appendProperty(propertiesLines, GENERATION_KEY, generationMode, helpGenerationMode);
 		if (afterFailureMode != AfterFailureMode.NOT_SET) {
 			appendProperty(propertiesLines, AFTER_FAILURE_KEY, afterFailureMode.name(), helpAfterFailureMode(afterFailureMode));
@@ -214,8 +218,10 @@ public class ExecutionResultReport {
 				return "parameters are exhaustively generated";
 			case DATA_DRIVEN:
 				return "parameters are taken from data provider";
+			case GUIDED:
+				return "parameters are randomly generated and mutated based on feedback from previous tries";
 			default:
-				return "RANDOMIZED, EXHAUSTIVE or DATA_DRIVEN";
+				return "RANDOMIZED, EXHAUSTIVE, DATA_DRIVEN or GUIDED";
 		}
 	}
 
@@ -8,19 +8,37 @@ class MapValueReport extends ValueReport {
 	private static final int MAX_LINE_LENGTH = 100;
 
 	private final List<Map.Entry<ValueReport, ValueReport>> reportEntries;
+	private final int omittedEntries;
 
 	MapValueReport(final Optional<String> label, final List<Map.Entry<ValueReport, ValueReport>> reportEntries) {
+		this(label, reportEntries, 0);
+	}
+
+	MapValueReport(
+		final Optional<String> label,
+		final List<Map.Entry<ValueReport, ValueReport>> reportEntries,
+		final int omittedEntries
+	) {
 		super(label);
 		this.reportEntries = reportEntries;
+		this.omittedEntries = omittedEntries;
 	}
 
 	@Override
-	public String singleLineReport() {
+	protected String createSingleLineReport() {
 		return label.orElse("") + "{" + singleLineEntries() + "}";
 	}
 
 	private String singleLineEntries() {
-		return reportEntries.stream().map(this::singleLineEntry).collect(Collectors.joining(", "));
+		Stream<String> entries = reportEntries.stream().map(this::singleLineEntry);
+		if (omittedEntries > 0) {
+			entries = Stream.concat(entries, Stream.of(omittedEntriesMarker()));
+		}
+		return entries.collect(Collectors.joining(", "));
+	}
+
+	private String omittedEntriesMarker() {
+		return String.format("<%s more entries>", omittedEntries);
 	}
 
 	private String singleLineEntry(final Map.Entry<ValueReport, ValueReport> entry) {
@@ -36,7 +54,7 @@ class MapValueReport extends ValueReport {
 
 	private void reportEntries(LineReporter lineReporter, int indentLevel) {
 		for (int i = 0; i < reportEntries.size(); i++) {
-			boolean isNotLast = i < reportEntries.size() - 1;
+			boolean isNotLast = i < reportEntries.size() - 1 || omittedEntries > 0;
 			Map.Entry<ValueReport, ValueReport> reportEntry = reportEntries.get(i);
 			String optionalComma = isNotLast ? ", " : "";
 			String singleLineEntry = singleLineEntry(reportEntry);
@@ -47,5 +65,8 @@ class MapValueReport extends ValueReport {
 				reportEntry.getValue().report(lineReporter, indentLevel + 1, optionalComma);
 			}
 		}
+		if (omittedEntries > 0) {
+			lineReporter.addLine(indentLevel, omittedEntriesMarker());
+		}
 	}
 }
@@ -0,0 +1,26 @@
+package net.jqwik.engine.execution.reporting;
+
+import java.util.*;
+
+/**
+ * Stands in for values that have not been reported because a report's budget was used up.
+ */
+class TruncatedValueReport extends ValueReport {
+
+	private final String marker;
+
+	TruncatedValueReport(Optional<String> label, String marker) {
+		super(label);
+		this.marker = marker;
+	}
+
+	@Override
+	protected String createSingleLineReport() {
+		return label.orElse("") + marker;
+	}
+
+	@Override
+	public void report(LineReporter lineReporter, int indentLevel, String appendix) {
+		lineReporter.addLine(indentLevel, singleLineReport() + appendix);
+	}
+}
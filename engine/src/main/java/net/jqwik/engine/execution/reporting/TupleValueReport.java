@@ -15,7 +15,7 @@ class TupleValueReport extends ValueReport {
 	}
 
 	@Override
-	public String singleLineReport() {
+	protected String createSingleLineReport() {
 		return label.orElse("") + "(" + singleLineReports() + ")";
 	}
 
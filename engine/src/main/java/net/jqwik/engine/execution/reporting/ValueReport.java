@@ -7,6 +7,9 @@ import net.jqwik.api.*;
 
 public abstract class ValueReport {
 
+	static final int MAX_REPORTED_ELEMENTS = 1000;
+	static final int MAX_REPORTED_DEPTH = 50;
+
 	interface ReportingFormatFinder {
 		SampleReportingFormat find(Object value);
 	}
@@ -17,37 +20,61 @@ public abstract class ValueReport {
 	}
 
 	static ValueReport of(Object value, ReportingFormatFinder formatFinder) {
-		final Set<Object> visited = visitedSet(Collections.emptySet());
-		return of(value, formatFinder, visited);
-	}
-
-	private static Set<Object> visitedSet(Set<Object> from) {
-		Set<Object> objects = Collections.newSetFromMap(new IdentityHashMap<>());
-		objects.addAll(from);
-		return objects;
+		final Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+		return of(value, formatFinder, visited, new ElementsBudget(MAX_REPORTED_ELEMENTS), 0);
 	}
 
-	private static ValueReport of(Object value, ReportingFormatFinder formatFinder, Set<Object> visited) {
+	/**
+	 * Containers are only walked up to {@linkplain #MAX_REPORTED_DEPTH} levels of nesting and
+	 * all containers of a value together report at most {@linkplain #MAX_REPORTED_ELEMENTS}
+	 * elements. Thereby reporting a huge sample does not create a report for each and every of its values.
+	 *
+	 * <p>
+	 * {@code visited} only contains the containers on the path to {@code value}
+	 * since each container is removed again after its elements have been reported.
+	 * </p>
+	 */
+	private static ValueReport of(
+		Object value,
+		ReportingFormatFinder formatFinder,
+		Set<Object> visited,
+		ElementsBudget budget,
+		int depth
+	) {
 		SampleReportingFormat format = formatFinder.find(value);
 		if (visited.contains(value)) {
 			return new CircularDependencyReport(format.label(value), value);
-		} else {
-			visited.add(value);
 		}
 		Object reportedValue = format.report(value);
 		if (reportedValue instanceof Collection) {
+			if (depth >= MAX_REPORTED_DEPTH) {
+				return new TruncatedValueReport(format.label(value), "[...]");
+			}
+			visited.add(value);
 			//noinspection unchecked
-			return createCollectionReport(format.label(value), (Collection<Object>) reportedValue, formatFinder, visited);
+			ValueReport report = createCollectionReport(format.label(value), (Collection<Object>) reportedValue, formatFinder, visited, budget, depth);
+			visited.remove(value);
+			return report;
 		}
 		if (reportedValue instanceof Map) {
+			if (depth >= MAX_REPORTED_DEPTH) {
+				return new TruncatedValueReport(format.label(value), "{...}");
+			}
+			visited.add(value);
 			//noinspection unchecked
-			return createMapReport(format.label(value), (Map<Object, Object>) reportedValue, formatFinder, visited);
+			ValueReport report = createMapReport(format.label(value), (Map<Object, Object>) reportedValue, formatFinder, visited, budget, depth);
+			visited.remove(value);
+			return report;
 		}
 		if (reportedValue instanceof Tuple) {
-			//noinspection unchecked
-			return createTupleReport(format.label(value), (Tuple) reportedValue, formatFinder, visited);
+			if (depth >= MAX_REPORTED_DEPTH) {
+				return new TruncatedValueReport(format.label(value), "(...)");
+			}
+			visited.add(value);
+			ValueReport report = createTupleReport(format.label(value), (Tuple) reportedValue, formatFinder, visited, budget, depth);
+			visited.remove(value);
+			return report;
 		}
-		visited.remove(value);
 		return new ObjectValueReport(format.label(value), reportedValue);
 	}
 
@@ -55,12 +82,14 @@ public abstract class ValueReport {
 		Optional<String> label,
 		Tuple tuple,
 		ReportingFormatFinder formatFinder,
-		final Set<Object> visited
+		final Set<Object> visited,
+		ElementsBudget budget,
+		int depth
 	) {
 		List<ValueReport> tupleReports =
 			tuple.items()
 				 .stream()
-				 .map(value -> of(value, formatFinder, visitedSet(visited)))
+				 .map(value -> of(value, formatFinder, visited, budget, depth + 1))
 				 .collect(Collectors.toList());
 
 		return new TupleValueReport(label, tupleReports);
@@ -70,49 +99,77 @@ public abstract class ValueReport {
 		final Optional<String> label,
 		final Map<Object, Object> map,
 		final ReportingFormatFinder formatFinder,
-		final Set<Object> visited
+		final Set<Object> visited,
+		ElementsBudget budget,
+		int depth
 	) {
-		List<Map.Entry<ValueReport, ValueReport>> reportEntries =
-			map.entrySet()
-			   .stream()
-			   .map(entry -> {
-				   ValueReport keyReport = of(entry.getKey(), formatFinder, visitedSet(visited));
-				   ValueReport valueReport = of(entry.getValue(), formatFinder, visitedSet(visited));
-				   return new Map.Entry<ValueReport, ValueReport>() {
-					   @Override
-					   public ValueReport getKey() {
-						   return keyReport;
-					   }
-
-					   @Override
-					   public ValueReport getValue() {
-						   return valueReport;
-					   }
-
-					   @Override
-					   public ValueReport setValue(ValueReport value) {
-						   throw new UnsupportedOperationException();
-					   }
-				   };
-			   })
-			   .collect(Collectors.toList());
-		return new MapValueReport(label, reportEntries);
+		List<Map.Entry<ValueReport, ValueReport>> reportEntries = new ArrayList<>();
+		Iterator<Map.Entry<Object, Object>> iterator = map.entrySet().iterator();
+		while (iterator.hasNext() && budget.take()) {
+			Map.Entry<Object, Object> entry = iterator.next();
+			ValueReport keyReport = of(entry.getKey(), formatFinder, visited, budget, depth + 1);
+			ValueReport valueReport = of(entry.getValue(), formatFinder, visited, budget, depth + 1);
+			reportEntries.add(new Map.Entry<ValueReport, ValueReport>() {
+				@Override
+				public ValueReport getKey() {
+					return keyReport;
+				}
+
+				@Override
+				public ValueReport getValue() {
+					return valueReport;
+				}
+
+				@Override
+				public ValueReport setValue(ValueReport value) {
+					throw new UnsupportedOperationException();
+				}
+			});
+		}
+		int omittedEntries = map.size() - reportEntries.size();
+		return new MapValueReport(label, reportEntries, omittedEntries);
 	}
 
 	private static ValueReport createCollectionReport(
 		Optional<String> label,
 		Collection<Object> collection,
 		ReportingFormatFinder formatFinder,
-		final Set<Object> visited
+		final Set<Object> visited,
+		ElementsBudget budget,
+		int depth
 	) {
-		List<ValueReport> reportCollection =
-			collection
-				.stream()
-				.map(element -> of(element, formatFinder, visitedSet(visited)))
-				.collect(Collectors.toList());
+		List<ValueReport> reportCollection = new ArrayList<>();
+		Iterator<Object> iterator = collection.iterator();
+		while (iterator.hasNext() && budget.take()) {
+			reportCollection.add(of(iterator.next(), formatFinder, visited, budget, depth + 1));
+		}
+		int omittedElements = collection.size() - reportCollection.size();
+		if (omittedElements > 0) {
+			reportCollection.add(new TruncatedValueReport(Optional.empty(), String.format("<%s more elements>", omittedElements)));
+		}
 		return new CollectionValueReport(label, reportCollection);
 	}
 
+	/**
+	 * Shared by all containers of a reported value so that nested containers
+	 * cannot multiply the number of reported elements.
+	 */
+	private static class ElementsBudget {
+		private int remaining;
+
+		private ElementsBudget(int remaining) {
+			this.remaining = remaining;
+		}
+
+		private boolean take() {
+			if (remaining <= 0) {
+				return false;
+			}
+			remaining--;
+			return true;
+		}
+	}
+
 	private static ReportingFormatFinder reportingFormatFinder() {
 		List<SampleReportingFormat> formats = new ArrayList<>(RegisteredSampleReportingFormats.getReportingFormats());
 		Collections.sort(formats);
@@ -134,11 +191,24 @@ public abstract class ValueReport {
 		this.label = label;
 	}
 
+	private String singleLineReport = null;
+
 	int singleLineLength() {
 		return singleLineReport().length();
 	}
 
-	public abstract String singleLineReport();
+	/**
+	 * The single line report is cached because containers ask their elements for it
+	 * on every level when deciding whether to report in single or multiple lines.
+	 */
+	public String singleLineReport() {
+		if (singleLineReport == null) {
+			singleLineReport = createSingleLineReport();
+		}
+		return singleLineReport;
+	}
+
+	protected abstract String createSingleLineReport();
 
 	public abstract void report(LineReporter lineReporter, int indentLevel, String appendix);
 }
@@ -91,6 +91,14 @@ public class ArbitrariesFacadeImpl extends Arbitraries.ArbitrariesFacade {
 		return new DefaultActionSequenceArbitrary<>(actionArbitrary);
 	}
 
+	@Override
+	public <M> ActionSequenceArbitrary<M> sequences(List<ActionType<M>> actionTypes) {
+		if (actionTypes.isEmpty()) {
+			throw new IllegalArgumentException("At least one action type is required");
+		}
+		return new DefaultActionSequenceArbitrary<>(actionTypes);
+	}
+
 	@Override
 	public <T> Arbitrary<T> frequencyOf(List<Tuple.Tuple2<Integer, Arbitrary<T>>> frequencies) {
 		List<Tuple.Tuple2<Integer, Arbitrary<T>>> aboveZeroFrequencies =
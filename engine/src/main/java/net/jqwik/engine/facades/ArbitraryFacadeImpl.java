@@ -128,6 +128,16 @@ public class ArbitraryFacadeImpl extends Arbitrary.ArbitraryFacade {
 		return new SampleStreamFacade().sampleStream(arbitrary);
 	}
 
+	@Override
+	public <T> List<T> samples(Arbitrary<T> arbitrary, int numberOfSamples) {
+		return new SampleStreamFacade().samples(arbitrary, numberOfSamples);
+	}
+
+	@Override
+	public <T> Stream<T> parallelSampleStream(Arbitrary<T> arbitrary) {
+		return new SampleStreamFacade().parallelSampleStream(arbitrary);
+	}
+
 	@Override
 	public <T> Arbitrary<T> injectNull(Arbitrary<T> self, double nullProbability) {
 		int frequencyNull = (int) Math.round(nullProbability * 100);
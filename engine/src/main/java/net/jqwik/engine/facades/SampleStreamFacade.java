@@ -1,6 +1,7 @@
 package net.jqwik.engine.facades;
 
 import java.util.*;
+import java.util.concurrent.atomic.*;
 import java.util.function.*;
 import java.util.stream.*;
 
@@ -15,17 +16,22 @@ import static org.junit.platform.engine.TestDescriptor.Type.*;
 
 class SampleStreamFacade {
 
-	private static final TestDescriptor SAMPLE_STREAM_DESCRIPTOR = new AbstractTestDescriptor(
-			UniqueId.root("jqwik", "samples"),
-			"Streaming samples outside jqwik thread"
-	) {
-		@Override
-		public Type getType() {
-			return TEST;
-		}
-	};
+	private static final TestDescriptor SAMPLE_STREAM_DESCRIPTOR = samplingDescriptor(UniqueId.root("jqwik", "samples"));
+
+	private static final AtomicLong samplingScopes = new AtomicLong();
+
+	private static TestDescriptor samplingDescriptor(UniqueId uniqueId) {
+		return new AbstractTestDescriptor(uniqueId, "Streaming samples outside jqwik thread") {
+			@Override
+			public Type getType() {
+				return TEST;
+			}
+		};
+	}
 
-	private static final Map<Arbitrary<Object>, RandomGenerator<Object>> generators = new HashMap<>();
+	// Generators of sample streams are confined to their thread since most generators are not thread-safe
+	private static final ThreadLocal<Map<Arbitrary<Object>, RandomGenerator<Object>>> generators =
+		ThreadLocal.withInitial(HashMap::new);
 
 	@SuppressWarnings("unchecked")
 	private static <T> RandomGenerator<T> getGeneratorForSampling(Arbitrary<T> arbitrary) {
@@ -34,7 +40,7 @@ class SampleStreamFacade {
 
 	@SuppressWarnings("unchecked")
 	private static <T> RandomGenerator<T> getGenerator(Arbitrary<Object> arbitrary) {
-		return (RandomGenerator<T>) generators.computeIfAbsent(
+		return (RandomGenerator<T>) generators.get().computeIfAbsent(
 				arbitrary,
 				a -> a.generator(JqwikProperties.DEFAULT_TRIES, true)
 		);
@@ -52,10 +58,94 @@ class SampleStreamFacade {
 		}
 	}
 
+	// Every batch of samples outside jqwik runs in its own scope, whose stores are removed afterwards
+	private static <T> T runInSamplingScope(Supplier<T> code) {
+		if (!CurrentTestDescriptor.isEmpty()) {
+			return code.get();
+		}
+		TestDescriptor samplingScope = samplingDescriptor(
+			UniqueId.root("jqwik", "samples").append("scope", Long.toString(samplingScopes.incrementAndGet()))
+		);
+		try {
+			return CurrentTestDescriptor.runWithDescriptor(samplingScope, code);
+		} finally {
+			StoreRepository.getCurrent().finishScope(samplingScope);
+		}
+	}
+
 	<T> Stream<T> sampleStream(Arbitrary<T> arbitrary) {
 		RandomGenerator<T> generator = getGeneratorForSampling(arbitrary);
 		return Stream.generate(wrapInDescriptor(() -> generator.next(SourceOfRandomness.current())))
 					 .map(shrinkable -> runInDescriptor(() -> shrinkable.value()));
 	}
 
+	<T> List<T> samples(Arbitrary<T> arbitrary, int numberOfSamples) {
+		if (numberOfSamples < 0) {
+			throw new IllegalArgumentException("Number of samples must not be negative");
+		}
+		Random random = SourceOfRandomness.current();
+		return runInSamplingScope(() -> generateSamples(arbitrary, random, numberOfSamples));
+	}
+
+	private static <T> List<T> generateSamples(Arbitrary<T> arbitrary, Random random, int numberOfSamples) {
+		RandomGenerator<T> generator = arbitrary.generator(JqwikProperties.DEFAULT_TRIES, true);
+		List<T> samples = new ArrayList<>(numberOfSamples);
+		for (int i = 0; i < numberOfSamples; i++) {
+			samples.add(generator.next(random).value());
+		}
+		return samples;
+	}
+
+	<T> Stream<T> parallelSampleStream(Arbitrary<T> arbitrary) {
+		long seed = SourceOfRandomness.current().nextLong();
+		return StreamSupport.stream(new SampleSpliterator<>(arbitrary, seed, Long.MAX_VALUE), true);
+	}
+
+	/**
+	 * An endless spliterator of samples. Each split gets its own random seeded by its parent.
+	 * Samples are generated in chunks so that a sampling scope is only created once per chunk.
+	 */
+	private static class SampleSpliterator<T> implements Spliterator<T> {
+
+		private static final int CHUNK_SIZE = 64;
+
+		private final Arbitrary<T> arbitrary;
+		private final Random random;
+		private long estimatedSize;
+
+		private List<T> chunk = Collections.emptyList();
+		private int nextInChunk = 0;
+
+		private SampleSpliterator(Arbitrary<T> arbitrary, long seed, long estimatedSize) {
+			this.arbitrary = arbitrary;
+			this.random = SourceOfRandomness.newRandom(seed);
+			this.estimatedSize = estimatedSize;
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super T> action) {
+			if (nextInChunk == chunk.size()) {
+				chunk = runInSamplingScope(() -> generateSamples(arbitrary, random, CHUNK_SIZE));
+				nextInChunk = 0;
+			}
+			action.accept(chunk.get(nextInChunk++));
+			return true;
+		}
+
+		@Override
+		public Spliterator<T> trySplit() {
+			estimatedSize = estimatedSize >>> 1;
+			return new SampleSpliterator<>(arbitrary, random.nextLong(), estimatedSize);
+		}
+
+		@Override
+		public long estimateSize() {
+			return estimatedSize;
+		}
+
+		@Override
+		public int characteristics() {
+			return IMMUTABLE;
+		}
+	}
 }
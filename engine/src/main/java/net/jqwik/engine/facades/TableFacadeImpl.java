@@ -0,0 +1,18 @@
+package net.jqwik.engine.facades;
+
+import java.nio.file.*;
+import java.util.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.*;
+
+/**
+ * Is loaded through reflection in api module
+ */
+public class TableFacadeImpl extends Table.TableFacade {
+
+	@Override
+	public Iterable<Tuple> fromCsv(Path csvFile, List<Class<?>> columnTypes) {
+		return new CsvTable(csvFile, columnTypes);
+	}
+}
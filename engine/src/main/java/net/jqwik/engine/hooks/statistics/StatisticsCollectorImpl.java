@@ -14,10 +14,13 @@ import net.jqwik.engine.facades.*;
 public class StatisticsCollectorImpl implements StatisticsCollector {
 	public static final Object COLLECTORS_ID = Tuple.of(StatisticsCollectorImpl.class, "collectors");
 
-	private final Map<List<Object>, Integer> counts = new HashMap<>();
+	private final Map<List<Object>, Counter> counts = new HashMap<>();
 	private final List<Consumer<StatisticsCoverage>> coverageCheckers = new ArrayList<>();
 	private final String label;
 
+	private int countAllCollects = 0;
+	private int numberOfValues = 0;
+
 	private List<StatisticsEntryImpl> statisticsEntries = null;
 
 	public StatisticsCollectorImpl(String label) {
@@ -34,8 +37,13 @@ public class StatisticsCollectorImpl implements StatisticsCollector {
 	}
 
 	private void updateCounts(List<Object> key) {
-		int count = counts.computeIfAbsent(key, any -> 0);
-		counts.put(key, ++count);
+		Counter counter = counts.get(key);
+		if (counter == null) {
+			counter = new Counter();
+			counts.put(key, counter);
+		}
+		counter.value++;
+		countAllCollects++;
 		statisticsEntries = null;
 	}
 
@@ -47,22 +55,25 @@ public class StatisticsCollectorImpl implements StatisticsCollector {
 	}
 
 	private void ensureSameNumberOfValues(List<Object> keyCandidate) {
-		if (counts.isEmpty()) {
+		if (numberOfValues == 0) {
+			numberOfValues = keyCandidate.size();
 			return;
 		}
-		List<Object> anyKey = counts.keySet().iterator().next();
-		if (anyKey.size() != keyCandidate.size()) {
+		if (numberOfValues != keyCandidate.size()) {
 			String message = String.format("StatisticsCollector[%s] must always be called with same number of values", label);
 			throw new IllegalArgumentException(message);
 		}
 	}
 
 	private List<Object> keyFrom(Object[] values) {
-		if (values != null) {
-			return Arrays.asList(values);
-		} else {
+		if (values == null) {
 			return Collections.singletonList(null);
 		}
+		// Most collects use a single value. A singleton list uses less memory per distinct value.
+		if (values.length == 1) {
+			return Collections.singletonList(values[0]);
+		}
+		return Arrays.asList(values);
 	}
 
 	// Currently only used for testing
@@ -72,11 +83,11 @@ public class StatisticsCollectorImpl implements StatisticsCollector {
 
 	private StatisticsEntry statisticsEntry(Object[] values) {
 		List<Object> key = keyFrom(values);
-		return statisticsEntries()
-				   .stream()
-				   .filter(entry -> entry.values().equals(key))
-				   .findFirst()
-				   .orElse(StatisticsEntryImpl.nullFor(key));
+		Counter counter = counts.get(key);
+		if (counter == null) {
+			return StatisticsEntryImpl.nullFor(key);
+		}
+		return createEntry(key, counter.value);
 	}
 
 	private StatisticsEntry query(Predicate<List<Object>> query) {
@@ -90,7 +101,11 @@ public class StatisticsCollectorImpl implements StatisticsCollector {
 	}
 
 	public int countAllCollects() {
-		return counts.values().stream().mapToInt(aCount -> aCount).sum();
+		return countAllCollects;
+	}
+
+	public int countDistinctValues() {
+		return counts.size();
 	}
 
 	// Currently only used for testing
@@ -114,7 +129,9 @@ public class StatisticsCollectorImpl implements StatisticsCollector {
 	}
 
 	public Map<List<Object>, Integer> getCounts() {
-		return counts;
+		Map<List<Object>, Integer> countsByKey = new HashMap<>();
+		counts.forEach((key, counter) -> countsByKey.put(key, counter.value));
+		return countsByKey;
 	}
 
 	public List<StatisticsEntryImpl> statisticsEntries() {
@@ -126,29 +143,20 @@ public class StatisticsCollectorImpl implements StatisticsCollector {
 	}
 
 	private List<StatisticsEntryImpl> calculateStatistics() {
-		int sum = countAllCollects();
-		return counts.entrySet()
-					 .stream()
-					 .sorted(this::compareStatisticsEntries)
-					 .filter(entry -> !entry.getKey().equals(Collections.emptyList()))
-					 .map(entry -> {
-						 double percentage = entry.getValue() * 100.0 / sum;
-						 return new StatisticsEntryImpl(
-							 entry.getKey(),
-							 displayKey(entry.getKey()),
-							 entry.getValue(), percentage
-						 );
-					 })
-					 .collect(Collectors.toList());
+		List<StatisticsEntryImpl> entries = new ArrayList<>(counts.size());
+		counts.forEach((key, counter) -> {
+			if (!key.isEmpty()) {
+				entries.add(createEntry(key, counter.value));
+			}
+		});
+		// All keys have the same number of values so that sorting by count is sufficient
+		entries.sort((e1, e2) -> Integer.compare(e2.count(), e1.count()));
+		return entries;
 	}
 
-	private int compareStatisticsEntries(Map.Entry<List<Object>, Integer> e1, Map.Entry<List<Object>, Integer> e2) {
-		List<Object> k1 = e1.getKey();
-		List<Object> k2 = e2.getKey();
-		if (k1.size() != k2.size()) {
-			return Integer.compare(k1.size(), k2.size());
-		}
-		return e2.getValue().compareTo(e1.getValue());
+	private StatisticsEntryImpl createEntry(List<Object> key, int count) {
+		double percentage = count * 100.0 / countAllCollects;
+		return new StatisticsEntryImpl(key, displayKey(key), count, percentage);
 	}
 
 	private String displayKey(List<Object> key) {
@@ -179,6 +187,10 @@ public class StatisticsCollectorImpl implements StatisticsCollector {
 		}
 	}
 
+	private static class Counter {
+		private int value = 0;
+	}
+
 	private static class CoverageCheckerImpl implements CoverageChecker {
 
 		private final String label;
@@ -0,0 +1,90 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import net.jqwik.api.providers.*;
+
+/**
+ * Index of all registered and default providers by their {@linkplain ArbitraryProvider#providedTypes() provided types}.
+ * Providers that do not declare their types are checked for every target type.
+ *
+ * <p>
+ * Indices are shared between resolvers with the same registered providers,
+ * e.g. all properties running in the global domain context.
+ * </p>
+ */
+class ArbitraryProviderIndex {
+
+	private static final int MAX_CACHED_INDICES = 32;
+
+	private static final Map<List<ArbitraryProvider>, ArbitraryProviderIndex> indices =
+		new LinkedHashMap<List<ArbitraryProvider>, ArbitraryProviderIndex>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<List<ArbitraryProvider>, ArbitraryProviderIndex> eldest) {
+				return size() > MAX_CACHED_INDICES;
+			}
+		};
+
+	static ArbitraryProviderIndex forProviders(List<ArbitraryProvider> registeredProviders) {
+		List<ArbitraryProvider> key = new ArrayList<>(registeredProviders);
+		synchronized (indices) {
+			ArbitraryProviderIndex index = indices.get(key);
+			if (index == null) {
+				index = new ArbitraryProviderIndex(key);
+				indices.put(key, index);
+			}
+			return index;
+		}
+	}
+
+	private final List<ArbitraryProvider> providers = new ArrayList<>();
+	private final Map<Class<?>, List<ArbitraryProvider>> candidatesByRawType = new ConcurrentHashMap<>();
+	private final Map<TypeUsage, List<ArbitraryProvider>> fittingProvidersByType = new ConcurrentHashMap<>();
+
+	ArbitraryProviderIndex(List<ArbitraryProvider> registeredProviders) {
+		this.providers.addAll(registeredProviders);
+		this.providers.addAll(DefaultArbitraries.getDefaultProviders());
+	}
+
+	List<ArbitraryProvider> fittingProviders(TypeUsage targetType) {
+		List<ArbitraryProvider> fittingProviders = fittingProvidersByType.get(targetType);
+		if (fittingProviders == null) {
+			fittingProviders = new ArrayList<>();
+			for (ArbitraryProvider provider : candidates(targetType)) {
+				if (provider.canProvideFor(targetType)) {
+					fittingProviders.add(provider);
+				}
+			}
+			fittingProvidersByType.put(targetType, fittingProviders);
+		}
+		return fittingProviders;
+	}
+
+	private List<ArbitraryProvider> candidates(TypeUsage targetType) {
+		if (targetType.isTypeVariableOrWildcard()) {
+			return providers;
+		}
+		Class<?> rawType = targetType.getRawType();
+		List<ArbitraryProvider> candidates = candidatesByRawType.get(rawType);
+		if (candidates == null) {
+			candidates = new ArrayList<>();
+			for (ArbitraryProvider provider : providers) {
+				if (isCandidate(provider, rawType)) {
+					candidates.add(provider);
+				}
+			}
+			candidatesByRawType.put(rawType, candidates);
+		}
+		return candidates;
+	}
+
+	private boolean isCandidate(ArbitraryProvider provider, Class<?> targetRawType) {
+		Set<Class<?>> providedTypes = provider.providedTypes();
+		if (providedTypes.isEmpty()) {
+			return true;
+		}
+		TypeUsage rawTargetType = TypeUsage.of(targetRawType);
+		return providedTypes.stream().anyMatch(providedType -> TypeUsage.of(providedType).canBeAssignedTo(rawTargetType));
+	}
+}
@@ -0,0 +1,275 @@
+package net.jqwik.engine.properties;
+
+import java.io.*;
+import java.math.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+
+/**
+ * Reads tuples line by line from a file with comma separated values.
+ * Converters for all columns are determined once so that reading a row
+ * only splits the line into a reused buffer and converts each field.
+ *
+ * <p>
+ * An iterator closes the file when all rows have been read.
+ * If it is not used up it must be closed through {@linkplain AutoCloseable#close()}.
+ * </p>
+ */
+public class CsvTable implements Iterable<Tuple> {
+
+	private static final int MAX_COLUMNS = 8;
+
+	private final Path csvFile;
+	private final List<Function<String, Object>> converters = new ArrayList<>();
+
+	public CsvTable(Path csvFile, List<Class<?>> columnTypes) {
+		if (columnTypes.isEmpty() || columnTypes.size() > MAX_COLUMNS) {
+			String message = String.format("Number of columns must be between 1 and %s but was %s", MAX_COLUMNS, columnTypes.size());
+			throw new IllegalArgumentException(message);
+		}
+		this.csvFile = csvFile;
+		for (Class<?> columnType : columnTypes) {
+			converters.add(converterFor(columnType));
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Function<String, Object> converterFor(Class<?> columnType) {
+		Class<?> type = columnType.isPrimitive() ? primitiveWrapper(columnType) : columnType;
+		if (type.equals(String.class)) {
+			return field -> field;
+		}
+		if (type.equals(Integer.class)) {
+			return Integer::valueOf;
+		}
+		if (type.equals(Long.class)) {
+			return Long::valueOf;
+		}
+		if (type.equals(Short.class)) {
+			return Short::valueOf;
+		}
+		if (type.equals(Byte.class)) {
+			return Byte::valueOf;
+		}
+		if (type.equals(Double.class)) {
+			return Double::valueOf;
+		}
+		if (type.equals(Float.class)) {
+			return Float::valueOf;
+		}
+		if (type.equals(Boolean.class)) {
+			return CsvTable::toBoolean;
+		}
+		if (type.equals(Character.class)) {
+			return CsvTable::toCharacter;
+		}
+		if (type.equals(BigInteger.class)) {
+			return BigInteger::new;
+		}
+		if (type.equals(BigDecimal.class)) {
+			return BigDecimal::new;
+		}
+		if (type.isEnum()) {
+			@SuppressWarnings("rawtypes")
+			Class<? extends Enum> enumType = (Class<? extends Enum>) type;
+			return field -> Enum.valueOf(enumType, field);
+		}
+		throw new IllegalArgumentException(String.format("Column type %s is not supported", columnType.getName()));
+	}
+
+	private static Class<?> primitiveWrapper(Class<?> primitiveType) {
+		if (primitiveType.equals(int.class)) return Integer.class;
+		if (primitiveType.equals(long.class)) return Long.class;
+		if (primitiveType.equals(short.class)) return Short.class;
+		if (primitiveType.equals(byte.class)) return Byte.class;
+		if (primitiveType.equals(double.class)) return Double.class;
+		if (primitiveType.equals(float.class)) return Float.class;
+		if (primitiveType.equals(boolean.class)) return Boolean.class;
+		if (primitiveType.equals(char.class)) return Character.class;
+		return primitiveType;
+	}
+
+	private static Boolean toBoolean(String field) {
+		if (field.equalsIgnoreCase("true")) {
+			return true;
+		}
+		if (field.equalsIgnoreCase("false")) {
+			return false;
+		}
+		throw new IllegalArgumentException(String.format("<%s> is not a boolean", field));
+	}
+
+	private static Character toCharacter(String field) {
+		if (field.length() != 1) {
+			throw new IllegalArgumentException(String.format("<%s> is not a single character", field));
+		}
+		return field.charAt(0);
+	}
+
+	@Override
+	public Iterator<Tuple> iterator() {
+		try {
+			return new RowIterator(Files.newBufferedReader(csvFile, StandardCharsets.UTF_8));
+		} catch (IOException ioException) {
+			throw new UncheckedIOException(ioException);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return String.format("CsvTable<%s>", csvFile);
+	}
+
+	private class RowIterator implements Iterator<Tuple>, AutoCloseable {
+
+		private final BufferedReader reader;
+		private final List<String> fields = new ArrayList<>(converters.size());
+		private final StringBuilder field = new StringBuilder();
+		private int lineNumber = 0;
+		private String nextLine = null;
+		private boolean closed = false;
+
+		private RowIterator(BufferedReader reader) {
+			this.reader = reader;
+		}
+
+		@Override
+		public boolean hasNext() {
+			if (nextLine == null && !closed) {
+				nextLine = readNextDataLine();
+			}
+			return nextLine != null;
+		}
+
+		@Override
+		public Tuple next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			String line = nextLine;
+			nextLine = null;
+			return toTuple(line);
+		}
+
+		private String readNextDataLine() {
+			try {
+				String line;
+				while ((line = reader.readLine()) != null) {
+					lineNumber++;
+					if (!line.trim().isEmpty() && !line.startsWith("#")) {
+						return line;
+					}
+				}
+				close();
+				return null;
+			} catch (IOException ioException) {
+				throw new UncheckedIOException(ioException);
+			}
+		}
+
+		@Override
+		public void close() {
+			if (closed) {
+				return;
+			}
+			closed = true;
+			try {
+				reader.close();
+			} catch (IOException ioException) {
+				throw new UncheckedIOException(ioException);
+			}
+		}
+
+		private Tuple toTuple(String line) {
+			splitIntoFields(line);
+			if (fields.size() != converters.size()) {
+				String message = String.format(
+					"Line %s of %s has %s fields but %s columns are expected",
+					lineNumber, csvFile, fields.size(), converters.size()
+				);
+				throw new JqwikException(message);
+			}
+			Object[] values = new Object[fields.size()];
+			for (int i = 0; i < values.length; i++) {
+				values[i] = convert(i, fields.get(i));
+			}
+			return tupleOf(values);
+		}
+
+		private Object convert(int column, String field) {
+			try {
+				return converters.get(column).apply(field);
+			} catch (IllegalArgumentException conversionException) {
+				String message = String.format(
+					"Cannot convert field <%s> in line %s of %s: %s",
+					field, lineNumber, csvFile, conversionException.getMessage()
+				);
+				throw new JqwikException(message);
+			}
+		}
+
+		private void splitIntoFields(String line) {
+			fields.clear();
+			field.setLength(0);
+			boolean quoted = false;
+			// Whitespace around unquoted content is not part of a field
+			int significantLength = 0;
+			for (int i = 0; i < line.length(); i++) {
+				char c = line.charAt(i);
+				if (quoted) {
+					if (c != '"') {
+						field.append(c);
+					} else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+						field.append('"');
+						i++;
+					} else {
+						quoted = false;
+					}
+					significantLength = field.length();
+				} else if (c == '"') {
+					quoted = true;
+				} else if (c == ',') {
+					addField(significantLength);
+					significantLength = 0;
+				} else if (!Character.isWhitespace(c)) {
+					field.append(c);
+					significantLength = field.length();
+				} else if (field.length() > 0) {
+					field.append(c);
+				}
+			}
+			addField(significantLength);
+		}
+
+		private void addField(int length) {
+			field.setLength(length);
+			fields.add(field.toString());
+			field.setLength(0);
+		}
+	}
+
+	private static Tuple tupleOf(Object[] values) {
+		switch (values.length) {
+			case 1:
+				return Tuple.of(values[0]);
+			case 2:
+				return Tuple.of(values[0], values[1]);
+			case 3:
+				return Tuple.of(values[0], values[1], values[2]);
+			case 4:
+				return Tuple.of(values[0], values[1], values[2], values[3]);
+			case 5:
+				return Tuple.of(values[0], values[1], values[2], values[3], values[4]);
+			case 6:
+				return Tuple.of(values[0], values[1], values[2], values[3], values[4], values[5]);
+			case 7:
+				return Tuple.of(values[0], values[1], values[2], values[3], values[4], values[5], values[6]);
+			default:
+				return Tuple.of(values[0], values[1], values[2], values[3], values[4], values[5], values[6], values[7]);
+		}
+	}
+}
@@ -4,7 +4,9 @@ import java.util.*;
 import java.util.stream.*;
 
 import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
 import net.jqwik.api.providers.*;
+import net.jqwik.engine.execution.lifecycle.*;
 import net.jqwik.engine.facades.*;
 import net.jqwik.engine.support.*;
 
@@ -13,9 +15,40 @@ public class DataBasedShrinkablesGenerator implements ForAllParametersGenerator
 	private final List<MethodParameter> forAllParameters;
 	private final Iterator<? extends Tuple> iterator;
 
+	// Type usages of parameters are resolved once for all data points
+	private final List<TypeUsage> parameterTypes;
+
+	// Data points usually have the same value classes in every row.
+	// Remembering the last class found compatible for each parameter saves resolving its type usage.
+	private final Class<?>[] lastCompatibleClasses;
+
 	public DataBasedShrinkablesGenerator(List<MethodParameter> forAllParameters, Iterable<? extends Tuple> data) {
 		this.forAllParameters = forAllParameters;
 		this.iterator = data.iterator();
+		this.parameterTypes = forAllParameters.stream().map(TypeUsageImpl::forParameter).collect(Collectors.toList());
+		this.lastCompatibleClasses = new Class<?>[forAllParameters.size()];
+		closeIteratorWhenPropertyIsFinished();
+	}
+
+	// Iterators holding resources - e.g. the one of a CsvTable - are not used up if a property fails or stops early
+	private void closeIteratorWhenPropertyIsFinished() {
+		if (!(iterator instanceof AutoCloseable) || CurrentTestDescriptor.isEmpty()) {
+			return;
+		}
+		Store<AutoCloseable> iteratorStore = Store.create(
+			Tuple.of(this, "iterator"),
+			Lifespan.PROPERTY,
+			() -> (AutoCloseable) iterator
+		);
+		iteratorStore.onClose(closeable -> {
+			try {
+				closeable.close();
+			} catch (Exception exception) {
+				JqwikExceptionSupport.throwAsUncheckedException(exception);
+			}
+		});
+		// Close callbacks are only called for initialized stores
+		iteratorStore.get();
 	}
 
 	@Override
@@ -27,29 +60,33 @@ public class DataBasedShrinkablesGenerator implements ForAllParametersGenerator
 	public List<Shrinkable<Object>> next() {
 		Tuple tuple = iterator.next();
 		checkCompatibility(tuple);
-		return tuple.items().stream().map(Shrinkable::unshrinkable).collect(Collectors.toList());
+		List<Object> items = tuple.items();
+		List<Shrinkable<Object>> shrinkables = new ArrayList<>(items.size());
+		for (Object item : items) {
+			shrinkables.add(Shrinkable.unshrinkable(item));
+		}
+		return shrinkables;
 	}
 
 	private void checkCompatibility(Tuple tuple) {
 		if (tuple.size() != forAllParameters.size()) {
 			throw new IncompatibleDataException(createIncompatibilityMessage(tuple));
 		}
-		for (int i = 0; i < tuple.items().size(); i++) {
-			TypeUsage valueType = TypeUsage.of(tuple.items().get(i).getClass());
-			TypeUsage parameterType = TypeUsageImpl.forParameter(forAllParameters.get(i));
-			if (!valueType.canBeAssignedTo(parameterType)) {
+		List<Object> items = tuple.items();
+		for (int i = 0; i < items.size(); i++) {
+			Class<?> valueClass = items.get(i).getClass();
+			if (valueClass == lastCompatibleClasses[i]) {
+				continue;
+			}
+			TypeUsage valueType = TypeUsage.of(valueClass);
+			if (!valueType.canBeAssignedTo(parameterTypes.get(i))) {
 				throw new IncompatibleDataException(createIncompatibilityMessage(tuple));
 			}
+			lastCompatibleClasses[i] = valueClass;
 		}
 	}
 
 	private String createIncompatibilityMessage(Tuple tuple) {
-		List<TypeUsage> parameterTypes =
-			this.forAllParameters
-				.stream()
-				.map(TypeUsageImpl::forParameter)
-				.collect(Collectors.toList());
-
 		return String.format(
 			"Data tuple %s is not compatible with parameters %s",
 			tuple,
@@ -1,8 +1,12 @@
 package net.jqwik.engine.properties;
 
+import java.io.*;
 import java.lang.reflect.*;
+import java.nio.file.*;
+import java.time.*;
 import java.util.*;
 import java.util.function.*;
+import java.util.logging.*;
 import java.util.stream.*;
 
 import net.jqwik.api.*;
@@ -16,6 +20,8 @@ import net.jqwik.engine.support.*;
 
 public class GenericProperty {
 
+	private static final Logger LOG = Logger.getLogger(GenericProperty.class.getName());
+
 	private final String name;
 	private final PropertyConfiguration configuration;
 	private final ParametersGenerator parametersGenerator;
@@ -38,9 +44,11 @@ public class GenericProperty {
 
 	public PropertyCheckResult check(Reporter reporter, Reporting[] reporting) {
 		int maxTries = configuration.getTries();
+		TimeBudget timeBudget = new TimeBudget(configuration.getMaxDuration());
 		int countChecks = 0;
 		int countTries = 0;
 		boolean finishEarly = false;
+		boolean maxDurationReached = false;
 		while (countTries < maxTries) {
 			if (finishEarly) {
 				break;
@@ -48,6 +56,10 @@ public class GenericProperty {
 			if (!parametersGenerator.hasNext()) {
 				break;
 			}
+			if (timeBudget.isUsedUp()) {
+				maxDurationReached = true;
+				break;
+			}
 			countTries++;
 
 			TryLifecycleContext tryLifecycleContext = tryLifecycleContextSupplier.get();
@@ -114,13 +126,14 @@ public class GenericProperty {
 			return PropertyCheckResult.exhausted(
 				configuration.getStereotype(),
 				name,
-				maxTries,
+				countTries,
 				countChecks,
 				configuration.getSeed(),
 				configuration.getGenerationMode(),
 				configuration.getEdgeCasesMode(),
 				parametersGenerator.edgeCasesTotal(),
-				parametersGenerator.edgeCasesTried()
+				parametersGenerator.edgeCasesTried(),
+				maxDurationReached
 			);
 		}
 		return PropertyCheckResult.successful(
@@ -132,7 +145,8 @@ public class GenericProperty {
 			configuration.getGenerationMode(),
 			configuration.getEdgeCasesMode(),
 			parametersGenerator.edgeCasesTotal(),
-			parametersGenerator.edgeCasesTried()
+			parametersGenerator.edgeCasesTried(),
+			maxDurationReached
 		);
 	}
 
@@ -191,7 +205,34 @@ public class GenericProperty {
 		);
 
 		Falsifier<List<Object>> forAllFalsifier = createFalsifier(tryLifecycleContextSupplier, tryLifecycleExecutor);
-		return shrinker.shrink(forAllFalsifier);
+		ShrunkFalsifiedSample shrunkSample = shrinker.shrink(forAllFalsifier);
+		if (configuration.getShrinkingMode() != ShrinkingMode.OFF) {
+			reportShrinkingStatistics(reporter, reporting, shrinker.statistics(), targetMethod);
+		}
+		return shrunkSample;
+	}
+
+	private void reportShrinkingStatistics(
+		Reporter reporter,
+		Reporting[] reporting,
+		ShrinkingStatistics statistics,
+		Method targetMethod
+	) {
+		if (Reporting.SHRINKING.containedIn(reporting)) {
+			reporter.publishReports("shrinking", statistics.report());
+		}
+		configuration.shrinkingTraceDirectory().ifPresent(directory -> {
+			String qualifiedName = targetMethod == null ? name : targetMethod.getDeclaringClass().getName() + "#" + name;
+			String fileName = qualifiedName.replaceAll("[^A-Za-z0-9._#-]", "_") + "-shrinking.csv";
+			Path traceFile = Paths.get(directory, fileName);
+			try {
+				Files.createDirectories(traceFile.getParent());
+				statistics.writeTrace(traceFile);
+			} catch (IOException ioException) {
+				String message = String.format("Cannot write shrinking trace file [%s]", traceFile);
+				LOG.log(Level.WARNING, message, ioException);
+			}
+		});
 	}
 
 	private Consumer<FalsifiedSample> createFalsifiedSampleReporter(Reporter reporter, Reporting[] reporting) {
@@ -208,4 +249,20 @@ public class GenericProperty {
 		return params -> tryExecutor.execute(tryLifecycleContext.get(), params);
 	}
 
+	private static class TimeBudget {
+
+		private final long startNanos = System.nanoTime();
+		private final long budgetNanos;
+
+		private TimeBudget(Duration maxDuration) {
+			this.budgetNanos = maxDuration.toNanos();
+		}
+
+		private boolean isUsedUp() {
+			if (budgetNanos <= 0) {
+				return false;
+			}
+			return System.nanoTime() - startNanos >= budgetNanos;
+		}
+	}
 }
@@ -0,0 +1,173 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.api.providers.*;
+import net.jqwik.api.stateful.*;
+import net.jqwik.engine.execution.lifecycle.*;
+import net.jqwik.engine.facades.*;
+import net.jqwik.engine.hooks.statistics.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * Generates samples for {@linkplain GenerationMode#GUIDED} properties.
+ *
+ * <p>
+ * A sample is considered interesting if its try has increased the number of distinct values
+ * in the property's statistics collectors. Interesting samples are kept in a corpus.
+ * Some of the following samples are created by mutating a single parameter of a corpus entry:
+ * either by generating it anew, by taking it from another corpus entry,
+ * or by replacing it with one of its shrinking candidates.
+ * Parameters whose type can contain values that cannot be evaluated a second time
+ * - i.e. action sequences - are always generated anew.
+ * </p>
+ */
+public class GuidedShrinkablesGenerator implements ForAllParametersGenerator {
+
+	static final int MAX_CORPUS_SIZE = 100;
+	private static final int MAX_NEIGHBOURS = 16;
+
+	private final RandomizedShrinkablesGenerator randomizedGenerator;
+	private final Random random;
+	private final List<Boolean> reusableParameters;
+
+	private final List<List<Shrinkable<Object>>> corpus = new ArrayList<>();
+	private List<Shrinkable<Object>> lastSample = null;
+	private int lastFeedback = 0;
+
+	public GuidedShrinkablesGenerator(
+		List<MethodParameter> parameters,
+		RandomizedShrinkablesGenerator randomizedGenerator,
+		Random random
+	) {
+		this.randomizedGenerator = randomizedGenerator;
+		this.random = random;
+		this.reusableParameters = parameters.stream()
+											.map(parameter -> canBeReused(TypeUsageImpl.forParameter(parameter)))
+											.collect(Collectors.toList());
+	}
+
+	@Override
+	public boolean hasNext() {
+		return randomizedGenerator.hasNext();
+	}
+
+	@Override
+	public List<Shrinkable<Object>> next() {
+		evaluateLastSample();
+		if (!corpus.isEmpty() && random.nextBoolean()) {
+			lastSample = mutate(randomCorpusEntry());
+		} else {
+			lastSample = randomizedGenerator.next();
+		}
+		return lastSample;
+	}
+
+	@Override
+	public int edgeCasesTotal() {
+		return randomizedGenerator.edgeCasesTotal();
+	}
+
+	@Override
+	public int edgeCasesTried() {
+		return randomizedGenerator.edgeCasesTried();
+	}
+
+	int corpusSize() {
+		return corpus.size();
+	}
+
+	private void evaluateLastSample() {
+		int feedback = currentFeedback();
+		if (lastSample != null && feedback > lastFeedback) {
+			addToCorpus(lastSample);
+		}
+		lastFeedback = feedback;
+	}
+
+	private void addToCorpus(List<Shrinkable<Object>> sample) {
+		if (corpus.size() < MAX_CORPUS_SIZE) {
+			corpus.add(sample);
+		} else {
+			corpus.set(random.nextInt(MAX_CORPUS_SIZE), sample);
+		}
+	}
+
+	private List<Shrinkable<Object>> randomCorpusEntry() {
+		return corpus.get(random.nextInt(corpus.size()));
+	}
+
+	private List<Shrinkable<Object>> mutate(List<Shrinkable<Object>> sample) {
+		if (sample.isEmpty()) {
+			return randomizedGenerator.next();
+		}
+		List<Shrinkable<Object>> mutant = new ArrayList<>(sample.size());
+		for (int i = 0; i < sample.size(); i++) {
+			mutant.add(reusableParameters.get(i) ? sample.get(i) : freshParameter(i));
+		}
+		int position = random.nextInt(mutant.size());
+		if (reusableParameters.get(position)) {
+			Optional<Shrinkable<Object>> mutation = Optional.empty();
+			switch (random.nextInt(3)) {
+				case 0:
+					mutation = Optional.of(randomCorpusEntry().get(position));
+					break;
+				case 1:
+					mutation = neighbour(mutant.get(position));
+					break;
+			}
+			mutant.set(position, mutation.orElseGet(() -> freshParameter(position)));
+		}
+		return mutant;
+	}
+
+	private Shrinkable<Object> freshParameter(int position) {
+		return randomizedGenerator.nextParameterWithoutEdgeCases(position);
+	}
+
+	// Action sequences keep the state of the try they have been run in and must not be run again.
+	// Values of types that are not known statically might also contain an action sequence.
+	private static boolean canBeReused(TypeUsage typeUsage) {
+		if (typeUsage.isTypeVariableOrWildcard()) {
+			return false;
+		}
+		Class<?> rawType = typeUsage.getRawType();
+		if (rawType.isAssignableFrom(ActionSequence.class) || ActionSequence.class.isAssignableFrom(rawType)) {
+			return false;
+		}
+		for (TypeUsage typeArgument : typeUsage.getTypeArguments()) {
+			if (!canBeReused(typeArgument)) {
+				return false;
+			}
+		}
+		return typeUsage.getComponentType().map(GuidedShrinkablesGenerator::canBeReused).orElse(true);
+	}
+
+	private Optional<Shrinkable<Object>> neighbour(Shrinkable<Object> shrinkable) {
+		List<Shrinkable<Object>> neighbours = shrinkable.shrink().limit(MAX_NEIGHBOURS).collect(Collectors.toList());
+		if (neighbours.isEmpty()) {
+			return Optional.empty();
+		}
+		return Optional.of(neighbours.get(random.nextInt(neighbours.size())));
+	}
+
+	// The number of distinct values collected in all statistics of the current property
+	private static int currentFeedback() {
+		if (CurrentTestDescriptor.isEmpty()) {
+			return 0;
+		}
+		try {
+			Store<Map<String, StatisticsCollectorImpl>> collectorsStore = Store.get(StatisticsCollectorImpl.COLLECTORS_ID);
+			int distinctValues = 0;
+			for (StatisticsCollectorImpl collector : collectorsStore.get().values()) {
+				distinctValues += collector.countDistinctValues();
+			}
+			return distinctValues;
+		} catch (CannotFindStoreException noStatisticsCollected) {
+			return 0;
+		}
+	}
+}
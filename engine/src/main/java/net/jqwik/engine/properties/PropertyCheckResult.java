@@ -27,7 +27,8 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 		GenerationMode generation,
 		EdgeCasesMode edgeCasesMode,
 		int edgeCasesTotal,
-		int edgeCasesTried
+		int edgeCasesTried,
+		boolean maxDurationReached
 	) {
 		return new PropertyCheckResult(
 			CheckStatus.SUCCESSFUL, stereotype,
@@ -39,6 +40,7 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 			edgeCasesMode,
 			edgeCasesTotal,
 			edgeCasesTried,
+			maxDurationReached,
 			null,
 			null,
 			null
@@ -74,6 +76,7 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 			edgeCasesMode,
 			edgeCasesTotal,
 			edgeCasesTried,
+			false,
 			originalSample,
 			shrunkSample,
 			throwable
@@ -105,6 +108,7 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 			edgeCasesMode,
 			edgeCasesTotal,
 			edgeCasesTried,
+			false,
 			null,
 			null,
 			throwable
@@ -120,7 +124,8 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 		GenerationMode generation,
 		EdgeCasesMode edgeCasesMode,
 		int edgeCasesTotal,
-		int edgeCasesTried
+		int edgeCasesTried,
+		boolean maxDurationReached
 	) {
 		return new PropertyCheckResult(
 			CheckStatus.EXHAUSTED,
@@ -133,6 +138,7 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 			edgeCasesMode,
 			edgeCasesTotal,
 			edgeCasesTried,
+			maxDurationReached,
 			null,
 			null,
 			null
@@ -149,6 +155,7 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 	private final EdgeCasesMode edgeCasesMode;
 	private final int edgeCasesTotal;
 	private final int edgeCasesTried;
+	private final boolean maxDurationReached;
 	private final FalsifiedSample originalSample;
 	private final ShrunkFalsifiedSample shrunkSample;
 	private final Throwable throwable;
@@ -163,6 +170,7 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 		EdgeCasesMode edgeCasesMode,
 		int edgeCasesTotal,
 		int edgeCasesTried,
+		boolean maxDurationReached,
 		FalsifiedSample originalSample,
 		ShrunkFalsifiedSample shrunkSample,
 		Throwable throwable
@@ -177,6 +185,7 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 		this.edgeCasesMode = edgeCasesMode;
 		this.edgeCasesTotal = edgeCasesTotal;
 		this.edgeCasesTried = edgeCasesTried;
+		this.maxDurationReached = maxDurationReached;
 		this.shrunkSample = shrunkSample;
 		this.originalSample = originalSample;
 		this.throwable = determineThrowable(status, throwable);
@@ -237,6 +246,7 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 					edgeCasesMode,
 					edgeCasesTotal,
 					edgeCasesTried,
+					maxDurationReached,
 					originalSample,
 					shrunkSample,
 					throwable
@@ -253,6 +263,7 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 					edgeCasesMode,
 					edgeCasesTotal,
 					edgeCasesTried,
+					maxDurationReached,
 					null,
 					null,
 					throwable
@@ -304,6 +315,11 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 		return new EdgeCasesExecutionResult(edgeCasesMode, edgeCasesTotal, edgeCasesTried);
 	}
 
+	@Override
+	public boolean maxDurationReached() {
+		return maxDurationReached;
+	}
+
 	@Override
 	public String toString() {
 		String header = String.format("%s [%s]", stereotype, propertyName);
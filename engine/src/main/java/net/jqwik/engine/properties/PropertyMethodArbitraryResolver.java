@@ -12,12 +12,18 @@ public class PropertyMethodArbitraryResolver extends InstanceBasedSubtypeProvide
 
 	private final RegisteredArbitraryResolver registeredArbitraryResolver;
 	private final RegisteredArbitraryConfigurer registeredArbitraryConfigurer;
+	private final ResolvedArbitrariesCache resolvedArbitrariesCache;
+
+	// Generators are memoized per arbitrary instance, so parameters of equal type
+	// in the same property must not share the cached arbitraries
+	private final Set<TypeUsage> typesResolvedFromCache = new HashSet<>();
 
 	public PropertyMethodArbitraryResolver(Object testInstance, DomainContext domainContext) {
 		this(
 			testInstance,
 			new RegisteredArbitraryResolver(domainContext.getArbitraryProviders()),
-			new RegisteredArbitraryConfigurer(domainContext.getArbitraryConfigurators())
+			new RegisteredArbitraryConfigurer(domainContext.getArbitraryConfigurators()),
+			ResolvedArbitrariesCache.forContext(domainContext)
 		);
 	}
 
@@ -25,16 +31,29 @@ public class PropertyMethodArbitraryResolver extends InstanceBasedSubtypeProvide
 		Object testInstance,
 		RegisteredArbitraryResolver registeredArbitraryResolver,
 		RegisteredArbitraryConfigurer registeredArbitraryConfigurer
+	) {
+		this(testInstance, registeredArbitraryResolver, registeredArbitraryConfigurer, null);
+	}
+
+	private PropertyMethodArbitraryResolver(
+		Object testInstance,
+		RegisteredArbitraryResolver registeredArbitraryResolver,
+		RegisteredArbitraryConfigurer registeredArbitraryConfigurer,
+		ResolvedArbitrariesCache resolvedArbitrariesCache
 	) {
 		super(testInstance);
 		this.registeredArbitraryResolver = registeredArbitraryResolver;
 		this.registeredArbitraryConfigurer = registeredArbitraryConfigurer;
+		this.resolvedArbitrariesCache = resolvedArbitrariesCache;
 	}
 
 	@Override
 	public Set<Arbitrary<?>> forParameter(MethodParameter parameter) {
 		TypeUsage typeUsage = TypeUsageImpl.forParameter(parameter);
-		return apply(typeUsage);
+		if (resolvedArbitrariesCache == null || !typesResolvedFromCache.add(typeUsage)) {
+			return apply(typeUsage);
+		}
+		return resolvedArbitrariesCache.resolve(typeUsage, this::apply);
 	}
 
 	@Override
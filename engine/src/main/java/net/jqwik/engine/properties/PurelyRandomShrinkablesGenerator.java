@@ -22,4 +22,8 @@ class PurelyRandomShrinkablesGenerator {
 				   .collect(Collectors.toList());
 	}
 
+	Shrinkable<Object> generateParameter(int position, Random random) {
+		return parameterGenerators.get(position).next(random, new HashMap<>());
+	}
+
 }
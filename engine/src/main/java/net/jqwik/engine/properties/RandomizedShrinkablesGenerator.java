@@ -204,6 +204,10 @@ public class RandomizedShrinkablesGenerator implements ForAllParametersGenerator
 		return randomGenerator.generateNext(random);
 	}
 
+	Shrinkable<Object> nextParameterWithoutEdgeCases(int position) {
+		return randomGenerator.generateParameter(position, random);
+	}
+
 	@Override
 	public int edgeCasesTotal() {
 		return edgeCasesTotal;
@@ -1,6 +1,7 @@
 package net.jqwik.engine.properties;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.configurators.*;
@@ -9,6 +10,7 @@ import net.jqwik.api.providers.*;
 public class RegisteredArbitraryConfigurer {
 
 	private final List<ArbitraryConfigurator> registeredConfigurators = new ArrayList<>();
+	private final Map<TypeUsage, List<ArbitraryConfigurator>> applicableConfigurators = new ConcurrentHashMap<>();
 
 	public RegisteredArbitraryConfigurer(List<ArbitraryConfigurator> registeredConfigurators) {
 		this.registeredConfigurators.addAll(registeredConfigurators);
@@ -17,7 +19,7 @@ public class RegisteredArbitraryConfigurer {
 
 	public Arbitrary<?> configure(Arbitrary<?> createdArbitrary, TypeUsage targetType) {
 		if (hasConfigurationAnnotation(targetType)) {
-			for (ArbitraryConfigurator arbitraryConfigurator : registeredConfigurators) {
+			for (ArbitraryConfigurator arbitraryConfigurator : applicableConfigurators(targetType)) {
 				if (createdArbitrary == null) {
 					// Configurators are allowed to return null for filtering out arbitraries
 					break;
@@ -28,6 +30,20 @@ public class RegisteredArbitraryConfigurer {
 		return createdArbitrary;
 	}
 
+	private List<ArbitraryConfigurator> applicableConfigurators(TypeUsage targetType) {
+		List<ArbitraryConfigurator> configurators = applicableConfigurators.get(targetType);
+		if (configurators == null) {
+			configurators = new ArrayList<>();
+			for (ArbitraryConfigurator configurator : registeredConfigurators) {
+				if (configurator.isApplicableTo(targetType)) {
+					configurators.add(configurator);
+				}
+			}
+			applicableConfigurators.put(targetType, configurators);
+		}
+		return configurators;
+	}
+
 	private boolean hasConfigurationAnnotation(TypeUsage targetType) {
 		return targetType.getAnnotations().stream()
 						 .anyMatch(annotation -> !annotation.annotationType().equals(ForAll.class));
@@ -0,0 +1,110 @@
+package net.jqwik.engine.properties;
+
+import java.lang.annotation.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.Tuple.*;
+import net.jqwik.api.configurators.*;
+import net.jqwik.api.domains.*;
+import net.jqwik.api.providers.*;
+import net.jqwik.engine.execution.lifecycle.*;
+
+/**
+ * Caches the configured arbitraries of parameter types across properties.
+ * Entries are kept per combination of registered providers and configurators so that properties
+ * running in another domain - or after providers have been registered or unregistered - never see them.
+ *
+ * <p>
+ * Type usages that refer to provider methods through {@code @ForAll("name")} or {@code @From}
+ * - on any level of type arguments - depend on the test instance and are never cached.
+ * The same is true for type variables and wildcards.
+ * </p>
+ *
+ * <p>
+ * Arbitraries that access a store during their creation - e.g. {@code Arbitraries.lazyOf()} -
+ * are bound to the current property or try and are not cached either.
+ * </p>
+ */
+class ResolvedArbitrariesCache {
+
+	private static final int MAX_CACHED_CONTEXTS = 32;
+
+	private static final Map<Tuple2<List<ArbitraryProvider>, List<ArbitraryConfigurator>>, ResolvedArbitrariesCache> caches =
+		new LinkedHashMap<Tuple2<List<ArbitraryProvider>, List<ArbitraryConfigurator>>, ResolvedArbitrariesCache>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Tuple2<List<ArbitraryProvider>, List<ArbitraryConfigurator>>, ResolvedArbitrariesCache> eldest) {
+				return size() > MAX_CACHED_CONTEXTS;
+			}
+		};
+
+	static ResolvedArbitrariesCache forContext(DomainContext domainContext) {
+		// Providers and configurators of a context can change, e.g. through registering and unregistering
+		Tuple2<List<ArbitraryProvider>, List<ArbitraryConfigurator>> key = Tuple.of(
+			new ArrayList<>(domainContext.getArbitraryProviders()),
+			new ArrayList<>(domainContext.getArbitraryConfigurators())
+		);
+		synchronized (caches) {
+			ResolvedArbitrariesCache cache = caches.get(key);
+			if (cache == null) {
+				cache = new ResolvedArbitrariesCache();
+				caches.put(key, cache);
+			}
+			return cache;
+		}
+	}
+
+	private final Map<TypeUsage, Set<Arbitrary<?>>> arbitrariesByType = new ConcurrentHashMap<>();
+
+	private ResolvedArbitrariesCache() {
+	}
+
+	Set<Arbitrary<?>> resolve(TypeUsage targetType, Function<TypeUsage, Set<Arbitrary<?>>> resolver) {
+		if (!isCacheable(targetType)) {
+			return resolver.apply(targetType);
+		}
+		Set<Arbitrary<?>> arbitraries = arbitrariesByType.get(targetType);
+		if (arbitraries == null) {
+			// Resolving might recursively use other resolvers, so don't resolve within computeIfAbsent()
+			long storeAccessesBefore = StoreRepository.getCurrent().storeAccesses();
+			arbitraries = Collections.unmodifiableSet(resolver.apply(targetType));
+			if (StoreRepository.getCurrent().storeAccesses() != storeAccessesBefore) {
+				return arbitraries;
+			}
+			Set<Arbitrary<?>> previous = arbitrariesByType.putIfAbsent(targetType, arbitraries);
+			if (previous != null) {
+				arbitraries = previous;
+			}
+		}
+		return arbitraries;
+	}
+
+	private static boolean isCacheable(TypeUsage typeUsage) {
+		if (typeUsage.isTypeVariableOrWildcard()) {
+			return false;
+		}
+		for (Annotation annotation : typeUsage.getAnnotations()) {
+			if (refersToProviderMethod(annotation)) {
+				return false;
+			}
+		}
+		for (TypeUsage typeArgument : typeUsage.getTypeArguments()) {
+			if (!isCacheable(typeArgument)) {
+				return false;
+			}
+		}
+		return typeUsage.getComponentType().map(ResolvedArbitrariesCache::isCacheable).orElse(true);
+	}
+
+	private static boolean refersToProviderMethod(Annotation annotation) {
+		if (annotation instanceof From) {
+			return true;
+		}
+		if (annotation instanceof ForAll) {
+			return !((ForAll) annotation).value().equals(ForAll.NO_VALUE);
+		}
+		return false;
+	}
+}
@@ -1,11 +1,9 @@
 package net.jqwik.engine.properties.arbitraries;
 
-import java.math.*;
 import java.util.*;
 import java.util.stream.*;
 
 import net.jqwik.api.*;
-import net.jqwik.engine.properties.*;
 import net.jqwik.engine.properties.arbitraries.exhaustive.*;
 import net.jqwik.engine.properties.arbitraries.randomized.*;
 import net.jqwik.engine.properties.shrinking.*;
@@ -27,14 +25,7 @@ public class CharacterRangeArbitrary implements Arbitrary<Character> {
 	private List<Shrinkable<Character>> listOfEdgeCases(int maxEdgeCases) {
 		Stream<Character> edgeCases = Stream.of(min, max, ' ').filter(c -> c >= min && c <= max);
 		return edgeCases
-					   .map(aCharacter -> new ShrinkableBigInteger(
-									BigInteger.valueOf((int) aCharacter),
-									Range.of(BigInteger.valueOf(this.min), BigInteger.valueOf(max)),
-									BigInteger.valueOf(min)
-							)
-					   )
-					   .map(shrinkableBigInteger -> shrinkableBigInteger.map(BigInteger::intValueExact))
-					   .map(shrinkableInteger -> shrinkableInteger.map(anInt -> ((char) (int) anInt)))
+					   .map(aCharacter -> new ShrinkableCharacter(aCharacter, min, max))
 					   .limit(Math.max(0, maxEdgeCases))
 					   .collect(Collectors.toList());
 	}
@@ -62,6 +62,9 @@ public class DefaultArrayArbitrary<T, A> extends MultivalueArbitraryBase<T, A> i
 	@SuppressWarnings("unchecked")
 	private A toArray(List<T> from) {
 		A array = (A) Array.newInstance(arrayClass.getComponentType(), from.size());
+		if (!arrayClass.getComponentType().isPrimitive()) {
+			return (A) from.toArray((Object[]) array);
+		}
 		for (int i = 0; i < from.size(); i++) {
 			Array.set(array, i, from.get(i));
 		}
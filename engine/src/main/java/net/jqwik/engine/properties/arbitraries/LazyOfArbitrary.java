@@ -12,6 +12,15 @@ import net.jqwik.engine.execution.lifecycle.*;
 import net.jqwik.engine.properties.shrinking.*;
 import net.jqwik.engine.support.*;
 
+/**
+ * Chooses one of its suppliers for each generated value.
+ *
+ * <p>
+ * A single top-level value may contain about {@code genSize} nested values of the same arbitrary.
+ * The more of this budget is used up the less likely suppliers that have been seen to recurse
+ * are chosen, so that the size of generated structures follows {@code genSize}.
+ * </p>
+ */
 public class LazyOfArbitrary<T> implements Arbitrary<T> {
 
 	// Cached arbitraries only have to survive one property
@@ -33,6 +42,13 @@ public class LazyOfArbitrary<T> implements Arbitrary<T> {
 	private final List<Supplier<Arbitrary<T>>> suppliers;
 
 	private final Deque<Set<LazyOfShrinkable<T>>> generatedParts = new ArrayDeque<>();
+	private final Deque<Integer> generatingSuppliers = new ArrayDeque<>();
+
+	// Suppliers are classified while generating since there is no other way to know which of them recurse
+	private final Set<Integer> recursiveSuppliers = new HashSet<>();
+	private final Set<Integer> nonRecursiveSuppliers = new TreeSet<>();
+
+	private int remainingBudget = 0;
 
 	// Remember generators during the same try. That way generators with state (e.g. unique()) work as expected
 	private final Store<Map<Integer, RandomGenerator<T>>> generators = createGeneratorsStore();
@@ -52,7 +68,12 @@ public class LazyOfArbitrary<T> implements Arbitrary<T> {
 	@Override
 	public RandomGenerator<T> generator(int genSize) {
 		return random -> {
-			int index = random.nextInt(suppliers.size());
+			if (generatingSuppliers.isEmpty()) {
+				remainingBudget = genSize;
+			} else {
+				markAsRecursive(generatingSuppliers.peekFirst());
+			}
+			int index = chooseSupplier(random, genSize);
 			long seed = random.nextLong();
 
 			Tuple2<Shrinkable<T>, Set<LazyOfShrinkable<T>>> shrinkableAndParts = generateCurrent(genSize, index, seed);
@@ -60,6 +81,24 @@ public class LazyOfArbitrary<T> implements Arbitrary<T> {
 		};
 	}
 
+	private int chooseSupplier(Random random, int budget) {
+		int index = random.nextInt(suppliers.size());
+		if (!recursiveSuppliers.contains(index) || nonRecursiveSuppliers.isEmpty()) {
+			return index;
+		}
+		double remainingShare = Math.max(0, remainingBudget) / (double) Math.max(1, budget);
+		if (random.nextDouble() < remainingShare) {
+			return index;
+		}
+		List<Integer> candidates = new ArrayList<>(nonRecursiveSuppliers);
+		return candidates.get(random.nextInt(candidates.size()));
+	}
+
+	private void markAsRecursive(int index) {
+		recursiveSuppliers.add(index);
+		nonRecursiveSuppliers.remove(index);
+	}
+
 	private LazyOfShrinkable<T> createShrinkable(
 			Tuple2<Shrinkable<T>, Set<LazyOfShrinkable<T>>> shrinkableAndParts,
 			int genSize,
@@ -88,12 +127,17 @@ public class LazyOfArbitrary<T> implements Arbitrary<T> {
 		return generatedParts.peekFirst();
 	}
 
-	private void pushGeneratedLevel() {
+	private void pushGeneratedLevel(int index) {
 		generatedParts.addFirst(new HashSet<>());
+		generatingSuppliers.addFirst(index);
 	}
 
 	private void popGeneratedLevel() {
 		generatedParts.removeFirst();
+		int index = generatingSuppliers.removeFirst();
+		if (!recursiveSuppliers.contains(index)) {
+			nonRecursiveSuppliers.add(index);
+		}
 	}
 
 	private int depth(Set<LazyOfShrinkable<T>> parts) {
@@ -101,8 +145,13 @@ public class LazyOfArbitrary<T> implements Arbitrary<T> {
 	}
 
 	private Tuple2<Shrinkable<T>, Set<LazyOfShrinkable<T>>> generateCurrent(int genSize, int index, long seed) {
+		// Top-level values generated during shrinking must not use the budget left over from a previous value
+		if (generatingSuppliers.isEmpty()) {
+			remainingBudget = genSize;
+		}
+		remainingBudget--;
 		try {
-			pushGeneratedLevel();
+			pushGeneratedLevel(index);
 			return Tuple.of(
 					getGenerator(index, genSize).next(SourceOfRandomness.newRandom(seed)),
 					peekGenerated()
@@ -6,8 +6,6 @@ import java.util.function.*;
 import net.jqwik.api.*;
 import net.jqwik.engine.properties.*;
 
-import static net.jqwik.engine.properties.UniquenessChecker.*;
-
 class ContainerGenerator<T, C> implements RandomGenerator<C> {
 	private final RandomGenerator<T> elementGenerator;
 	private final Function<List<Shrinkable<T>>, Shrinkable<C>> createShrinkable;
@@ -53,11 +51,17 @@ class ContainerGenerator<T, C> implements RandomGenerator<C> {
 	@Override
 	public Shrinkable<C> next(Random random) {
 		int listSize = sizeGenerator.apply(random);
-		List<Shrinkable<T>> listOfShrinkables = new ArrayList<>();
-		List<T> existingValues = new ArrayList<>();
+		List<Shrinkable<T>> listOfShrinkables = new ArrayList<>(listSize);
+		if (uniquenessExtractors.isEmpty()) {
+			while (listOfShrinkables.size() < listSize) {
+				listOfShrinkables.add(elementGenerator.next(random));
+			}
+			return createShrinkable.apply(listOfShrinkables);
+		}
+		List<Set<Object>> existingFeatures = existingFeatures(listSize);
 		while (listOfShrinkables.size() < listSize) {
 			try {
-				Shrinkable<T> next = nextUntilAccepted(random, existingValues, elementGenerator::next);
+				Shrinkable<T> next = nextUntilAccepted(random, existingFeatures, elementGenerator::next);
 				listOfShrinkables.add(next);
 			} catch (TooManyFilterMissesException tooManyFilterMissesException) {
 				// Ignore if list.size() >= minSize, because uniqueness constraints influence possible max size
@@ -73,14 +77,22 @@ class ContainerGenerator<T, C> implements RandomGenerator<C> {
 		return createShrinkable.apply(listOfShrinkables);
 	}
 
-	private Shrinkable<T> nextUntilAccepted(Random random, List<T> existingValues, Function<Random, Shrinkable<T>> fetchShrinkable) {
+	// One set of features per extractor so that checking a new value does not walk all existing values
+	private List<Set<Object>> existingFeatures(int listSize) {
+		List<Set<Object>> existingFeatures = new ArrayList<>(uniquenessExtractors.size());
+		for (int i = 0; i < uniquenessExtractors.size(); i++) {
+			existingFeatures.add(new HashSet<>(Math.max(16, listSize * 4 / 3 + 1)));
+		}
+		return existingFeatures;
+	}
+
+	private Shrinkable<T> nextUntilAccepted(Random random, List<Set<Object>> existingFeatures, Function<Random, Shrinkable<T>> fetchShrinkable) {
 		Shrinkable<T> accepted = MaxTriesLoop.loop(
 				() -> true,
 				next -> {
 					next = fetchShrinkable.apply(random);
 					T value = next.value();
-					if (checkUniqueness(existingValues, value)) {
-						existingValues.add(value);
+					if (checkUniqueness(existingFeatures, value)) {
 						return Tuple.of(true, next);
 					}
 					return Tuple.of(false, next);
@@ -93,8 +105,20 @@ class ContainerGenerator<T, C> implements RandomGenerator<C> {
 		return accepted;
 	}
 
-	private boolean checkUniqueness(List<T> elements, T value) {
-		return checkValueUniqueIn(uniquenessExtractors, value, elements);
+	private boolean checkUniqueness(List<Set<Object>> existingFeatures, T value) {
+		List<Object> features = new ArrayList<>(uniquenessExtractors.size());
+		int index = 0;
+		for (FeatureExtractor<T> extractor : uniquenessExtractors) {
+			Object feature = extractor.applySafe(value);
+			if (existingFeatures.get(index++).contains(feature)) {
+				return false;
+			}
+			features.add(feature);
+		}
+		for (int i = 0; i < features.size(); i++) {
+			existingFeatures.get(i).add(features.get(i));
+		}
+		return true;
 	}
 
 }
@@ -6,14 +6,20 @@ import net.jqwik.api.*;
 import net.jqwik.engine.properties.shrinking.*;
 import net.jqwik.engine.support.*;
 
+/**
+ * Chooses values by drawing an index below the sum of all frequencies
+ * and looking up the value whose upper border is the smallest one above that index.
+ * Upper borders are cumulative and therefore sorted, which allows binary search.
+ */
 public class FrequencyGenerator<T> implements RandomGenerator<T> {
 
-	private final Map<T, Integer> upperBorders = new HashMap<>();
-	private int size = 0;
-	private List<T> valuesToChooseFrom;
+	private final List<T> valuesToChooseFrom = new ArrayList<>();
+	private final int[] upperBorders;
+	private final int size;
 
 	FrequencyGenerator(List<Tuple.Tuple2<Integer, T>> frequencies) {
-		calculateUpperBorders(frequencies);
+		this.upperBorders = calculateUpperBorders(frequencies);
+		this.size = upperBorders.length == 0 ? 0 : upperBorders[upperBorders.length - 1];
 		if (size <= 0) {
 			throw new JqwikException(String.format(
 				"%s does not contain any positive frequencies.",
@@ -22,33 +28,56 @@ public class FrequencyGenerator<T> implements RandomGenerator<T> {
 		}
 	}
 
-	private void calculateUpperBorders(List<Tuple.Tuple2<Integer, T>> frequencies) {
-		List<T> values = new ArrayList<>();
+	private int[] calculateUpperBorders(List<Tuple.Tuple2<Integer, T>> frequencies) {
+		int[] borders = new int[frequencies.size()];
+		int count = 0;
+		int sum = 0;
 		for (Tuple.Tuple2<Integer, T> tuple : frequencies) {
 			int frequency = tuple.get1();
 			if (frequency <= 0)
 				continue;
-			size += frequency;
-			T value = tuple.get2();
-			values.add(value);
-			upperBorders.put(value, size);
+			try {
+				sum = Math.addExact(sum, frequency);
+			} catch (ArithmeticException overflow) {
+				throw new JqwikException(String.format(
+					"The sum of frequencies in %s exceeds %s.",
+					JqwikStringSupport.displayString(frequencies),
+					Integer.MAX_VALUE
+				));
+			}
+			valuesToChooseFrom.add(tuple.get2());
+			borders[count++] = sum;
 		}
-		valuesToChooseFrom = values;
+		return Arrays.copyOf(borders, count);
 	}
 
 	private T choose(int index) {
-		T currentChoice = null;
-		for (T key : upperBorders.keySet()) {
-			int upper = upperBorders.get(key);
-			if (upper > index) {
-				if (currentChoice == null) {
-					currentChoice = key;
-				} else if (upper < upperBorders.get(currentChoice)) {
-					currentChoice = key;
-				}
+		return valuesToChooseFrom.get(indexOfUpperBorderAbove(index));
+	}
+
+	/**
+	 * @return the position of the chosen value within {@linkplain #values()}
+	 */
+	int nextIndex(Random random) {
+		return indexOfUpperBorderAbove(random.nextInt(size));
+	}
+
+	List<T> values() {
+		return valuesToChooseFrom;
+	}
+
+	private int indexOfUpperBorderAbove(int index) {
+		int low = 0;
+		int high = upperBorders.length - 1;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (upperBorders[middle] > index) {
+				high = middle;
+			} else {
+				low = middle + 1;
 			}
 		}
-		return currentChoice;
+		return low;
 	}
 
 	@Override
@@ -0,0 +1,50 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.util.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.Tuple.*;
+import net.jqwik.engine.*;
+import net.jqwik.engine.properties.shrinking.*;
+
+/**
+ * Generates a value from one of several generators chosen by frequency.
+ *
+ * <p>
+ * The generated shrinkable keeps the index of the chosen generator and the generated shrinkable
+ * instead of regenerating the value from a random seed whenever it is accessed.
+ * Generators are only requested when first chosen since they might be recursive.
+ * </p>
+ */
+class FrequencyOfGenerator<T> implements RandomGenerator<T> {
+
+	private final FrequencyGenerator<Supplier<RandomGenerator<T>>> chooser;
+	private final List<RandomGenerator<T>> generators;
+
+	FrequencyOfGenerator(List<Tuple2<Integer, Supplier<RandomGenerator<T>>>> frequencies) {
+		this.chooser = new FrequencyGenerator<>(frequencies);
+		this.generators = new ArrayList<>(Collections.nCopies(chooser.values().size(), null));
+	}
+
+	@Override
+	public Shrinkable<T> next(Random random) {
+		int index = chooser.nextIndex(random);
+		long seed = random.nextLong();
+		IntFunction<Shrinkable<T>> generateAlternative = alternative -> generate(alternative, seed);
+		return new FrequencyOfShrinkable<>(index, generate(index, seed), generateAlternative);
+	}
+
+	private Shrinkable<T> generate(int index, long seed) {
+		return generator(index).next(SourceOfRandomness.newRandom(seed));
+	}
+
+	private RandomGenerator<T> generator(int index) {
+		RandomGenerator<T> generator = generators.get(index);
+		if (generator == null) {
+			generator = chooser.values().get(index).get();
+			generators.set(index, generator);
+		}
+		return generator;
+	}
+}
@@ -2,19 +2,26 @@ package net.jqwik.engine.properties.arbitraries.randomized;
 
 import java.util.*;
 
+import org.junit.platform.engine.*;
+
 import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
-import net.jqwik.engine.*;
+import net.jqwik.engine.execution.lifecycle.*;
 
+/**
+ * Remembers the shrinkables generated during a try and hands them out again as duplicates.
+ * The store of previous values is only looked up again when the current test descriptor changes.
+ */
 public class InjectDuplicatesGenerator<T> implements RandomGenerator<T> {
 
-	private Store<List<Long>> previousSeedsStore() {
-		return Store.getOrCreate(this, Lifespan.TRY, ArrayList::new);
-	}
+	static final int MAX_PREVIOUS_VALUES = 1000;
 
 	private final RandomGenerator<T> base;
 	private final double duplicateProbability;
 
+	private TestDescriptor storeRetriever = null;
+	private Store<List<Shrinkable<T>>> previousValuesStore = null;
+
 	public InjectDuplicatesGenerator(RandomGenerator<T> base, double duplicateProbability) {
 		this.base = base;
 		this.duplicateProbability = duplicateProbability;
@@ -22,24 +29,29 @@ public class InjectDuplicatesGenerator<T> implements RandomGenerator<T> {
 
 	@Override
 	public Shrinkable<T> next(Random random) {
-		long seed = chooseSeed(random);
-		return base.next(SourceOfRandomness.newRandom(seed));
-	}
-
-	long chooseSeed(Random random) {
-		Store<List<Long>> previousSeeds = previousSeedsStore();
-		if (!previousSeeds.get().isEmpty()) {
+		List<Shrinkable<T>> previousValues = previousValues();
+		if (!previousValues.isEmpty()) {
 			if (random.nextDouble() <= duplicateProbability) {
-				return randomPreviousSeed(previousSeeds, random);
+				return previousValues.get(random.nextInt(previousValues.size()));
 			}
 		}
-		long seed = random.nextLong();
-		previousSeeds.get().add(seed);
-		return seed;
+		Shrinkable<T> next = base.next(random);
+		if (previousValues.size() < MAX_PREVIOUS_VALUES) {
+			previousValues.add(next);
+		}
+		return next;
 	}
 
-	private long randomPreviousSeed(Store<List<Long>> previousSeeds, Random random) {
-		int index = random.nextInt(previousSeeds.get().size());
-		return previousSeeds.get().get(index);
+	private List<Shrinkable<T>> previousValues() {
+		if (CurrentTestDescriptor.isEmpty()) {
+			if (storeRetriever != null || previousValuesStore == null) {
+				storeRetriever = null;
+				previousValuesStore = Store.free(ArrayList::new);
+			}
+		} else if (storeRetriever != CurrentTestDescriptor.get()) {
+			storeRetriever = CurrentTestDescriptor.get();
+			previousValuesStore = Store.getOrCreate(this, Lifespan.TRY, ArrayList::new);
+		}
+		return previousValuesStore.get();
 	}
 }
@@ -42,7 +42,11 @@ public class RandomGenerators {
 	}
 
 	public static RandomGenerator<Character> chars(char min, char max) {
-		return integers(min, max).map(anInt -> ((char) (int) anInt));
+		if (min == max) {
+			return ignored -> Shrinkable.unshrinkable(min);
+		}
+		int numberOfChars = max - min + 1;
+		return random -> new ShrinkableCharacter((char) (min + random.nextInt(numberOfChars)), min, max);
 	}
 
 	public static RandomGenerator<Integer> integers(int min, int max) {
@@ -83,7 +87,11 @@ public class RandomGenerators {
 	}
 
 	public static <T> RandomGenerator<T> oneOf(List<RandomGenerator<T>> all) {
-		return choose(all).flatMap(Function.identity());
+		List<Tuple2<Integer, Supplier<RandomGenerator<T>>>> frequencies = new ArrayList<>(all.size());
+		for (RandomGenerator<T> generator : all) {
+			frequencies.add(Tuple.of(1, () -> generator));
+		}
+		return new FrequencyOfGenerator<>(frequencies);
 	}
 
 	public static <T> RandomGenerator<List<T>> shuffle(List<T> values) {
@@ -165,7 +173,12 @@ public class RandomGenerators {
 			int genSize,
 			boolean withEmbeddedEdgeCases
 	) {
-		return frequency(frequencies).flatMap(Function.identity(), genSize, withEmbeddedEdgeCases);
+		List<Tuple2<Integer, Supplier<RandomGenerator<T>>>> generatorFrequencies = new ArrayList<>(frequencies.size());
+		for (Tuple2<Integer, Arbitrary<T>> frequency : frequencies) {
+			Arbitrary<T> arbitrary = frequency.get2();
+			generatorFrequencies.add(Tuple.of(frequency.get1(), () -> arbitrary.generator(genSize, withEmbeddedEdgeCases)));
+		}
+		return new FrequencyOfGenerator<>(generatorFrequencies);
 	}
 
 	public static <T> RandomGenerator<T> withEdgeCases(RandomGenerator<T> self, int genSize, EdgeCases<T> edgeCases) {
@@ -14,6 +14,11 @@ import net.jqwik.engine.support.*;
 @SuppressWarnings("unchecked")
 public class UniqueElementsConfigurator implements ArbitraryConfigurator {
 
+	@Override
+	public boolean isApplicableTo(TypeUsage targetType) {
+		return targetType.isAnnotated(UniqueElements.class);
+	}
+
 	@SuppressWarnings("OverlyComplexMethod")
 	@Override
 	public <T> Arbitrary<T> configure(Arbitrary<T> arbitrary, TypeUsage targetType) {
@@ -5,7 +5,6 @@ import java.util.function.*;
 import java.util.stream.*;
 
 import net.jqwik.api.*;
-import net.jqwik.api.Tuple.*;
 import net.jqwik.api.lifecycle.*;
 import net.jqwik.engine.properties.*;
 
@@ -16,9 +15,17 @@ abstract class AbstractSampleShrinker {
 	}
 
 	private final Map<List<Object>, TryExecutionResult> falsificationCache;
+	private final ShrinkingStatistics statistics;
+	private final ShrinkingCancellation cancellation;
 
-	public AbstractSampleShrinker(Map<List<Object>, TryExecutionResult> falsificationCache) {
+	public AbstractSampleShrinker(
+		Map<List<Object>, TryExecutionResult> falsificationCache,
+		ShrinkingStatistics statistics,
+		ShrinkingCancellation cancellation
+	) {
 		this.falsificationCache = falsificationCache;
+		this.statistics = statistics;
+		this.cancellation = cancellation;
 	}
 
 	public abstract FalsifiedSample shrink(
@@ -36,46 +43,66 @@ abstract class AbstractSampleShrinker {
 		Function<List<Shrinkable<Object>>, Stream<List<Shrinkable<Object>>>> supplyShrinkCandidates
 	) {
 		List<Shrinkable<Object>> currentShrinkBase = sample.shrinkables();
+		ShrinkingDistance currentDistance = calculateDistance(currentShrinkBase);
 		Optional<FalsifiedSample> bestResult = Optional.empty();
 		FilteredResults filteredResults = new FilteredResults();
 
 		while (true) {
-			ShrinkingDistance currentDistance = calculateDistance(currentShrinkBase);
+			cancellation.checkNotCancelled();
+			ShrinkingDistance baseDistance = currentDistance;
 
 			FalsifiedSample currentBest = bestResult.orElse(null);
 
-			Optional<Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult>> newShrinkingResult =
+			Optional<ShrinkingTry> newShrinkingResult =
 				supplyShrinkCandidates.apply(currentShrinkBase)
-								 .peek(ignore -> shrinkAttemptConsumer.accept(currentBest))
-								 .filter(shrinkables -> calculateDistance(shrinkables).compareTo(currentDistance) <= 0)
-								 .map(shrinkables -> {
-									 List<Object> params = createValues(shrinkables).collect(Collectors.toList());
+								 .peek(ignore -> {
+									 cancellation.checkNotCancelled();
+									 statistics.candidateSupplied();
+									 shrinkAttemptConsumer.accept(currentBest);
+								 })
+								 .map(shrinkables -> new ShrinkingCandidate(shrinkables, calculateDistance(shrinkables)))
+								 .filter(candidate -> {
+									 if (candidate.distance.compareTo(baseDistance) <= 0) {
+										 return true;
+									 }
+									 statistics.candidateFilteredByDistance();
+									 return false;
+								 })
+								 .map(candidate -> {
+									 List<Object> params = createValues(candidate.shrinkables).collect(Collectors.toList());
 									 TryExecutionResult result = falsify(falsifier, params);
-									 return Tuple.of(params, shrinkables, result);
+									 // Distance can change through falsification, e.g. when an action sequence has been run
+									 return new ShrinkingTry(params, candidate.shrinkables, result, calculateDistance(candidate.shrinkables));
 								 })
-								 .peek(t -> {
+								 .peek(shrinkingTry -> {
+									 if (shrinkingTry.result.isInvalid()) {
+										 statistics.invalidCandidate();
+									 }
 									 // Remember best 10 invalid results in case no  falsified shrink is found
-									 if (t.get3().isInvalid() && calculateDistance(t.get2()).compareTo(currentDistance) < 0) {
-										 filteredResults.push(t);
+									 if (shrinkingTry.result.isInvalid() && shrinkingTry.distance.compareTo(baseDistance) < 0) {
+										 filteredResults.push(shrinkingTry);
 									 }
 								 })
-								 .filter(t -> t.get3().isFalsified())
+								 .filter(shrinkingTry -> shrinkingTry.result.isFalsified())
 								 .findAny();
 
 			if (newShrinkingResult.isPresent()) {
-				Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult> falsifiedTry = newShrinkingResult.get();
+				ShrinkingTry falsifiedTry = newShrinkingResult.get();
 				FalsifiedSample falsifiedSample = new FalsifiedSampleImpl(
-					falsifiedTry.get1(),
-					falsifiedTry.get2(),
-					falsifiedTry.get3().throwable()
+					falsifiedTry.params,
+					falsifiedTry.shrinkables,
+					falsifiedTry.result.throwable()
 				);
+				statistics.stepDone(falsifiedTry.distance);
 				shrinkSampleConsumer.accept(falsifiedSample);
 				bestResult = Optional.of(falsifiedSample);
-				currentShrinkBase = falsifiedTry.get2();
+				currentShrinkBase = falsifiedTry.shrinkables;
+				currentDistance = falsifiedTry.distance;
 				filteredResults.clear();
 			} else if (!filteredResults.isEmpty()) {
-				Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult> aFilteredResult = filteredResults.pop();
-				currentShrinkBase = aFilteredResult.get2();
+				ShrinkingTry aFilteredResult = filteredResults.pop();
+				currentShrinkBase = aFilteredResult.shrinkables;
+				currentDistance = aFilteredResult.distance;
 			} else {
 				break;
 			}
@@ -86,25 +113,80 @@ abstract class AbstractSampleShrinker {
 
 	private TryExecutionResult falsify(Falsifier<List<Object>> falsifier, List<Object> params) {
 		// I wonder in which cases this is really an optimization
-		return falsificationCache.computeIfAbsent(params, p -> falsifier.execute(params));
+		TryExecutionResult cachedResult = falsificationCache.get(params);
+		if (cachedResult != null) {
+			statistics.cacheHit();
+			return cachedResult;
+		}
+		cancellation.checkNotCancelled();
+		statistics.falsifierCalled();
+		TryExecutionResult result = falsifier.execute(params);
+		falsificationCache.put(params, result);
+		return result;
 	}
 
 	private Stream<Object> createValues(List<Shrinkable<Object>> shrinkables) {
 		return shrinkables.stream().map(Shrinkable::value);
 	}
 
+	private static class ShrinkingCandidate {
+		private final List<Shrinkable<Object>> shrinkables;
+
+		// Calculated only once per candidate since it can be expensive for large or nested parameters.
+		// Only used to filter candidates before falsification.
+		private final ShrinkingDistance distance;
+
+		private ShrinkingCandidate(List<Shrinkable<Object>> shrinkables, ShrinkingDistance distance) {
+			this.shrinkables = shrinkables;
+			this.distance = distance;
+		}
+	}
+
+	private static class ShrinkingTry {
+		private final List<Object> params;
+		private final List<Shrinkable<Object>> shrinkables;
+		private final TryExecutionResult result;
+		private final ShrinkingDistance distance;
+
+		private ShrinkingTry(
+			List<Object> params,
+			List<Shrinkable<Object>> shrinkables,
+			TryExecutionResult result,
+			ShrinkingDistance distance
+		) {
+			this.params = params;
+			this.shrinkables = shrinkables;
+			this.result = result;
+			this.distance = distance;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) return true;
+			if (o == null || getClass() != o.getClass()) return false;
+			ShrinkingTry that = (ShrinkingTry) o;
+			return params.equals(that.params)
+					   && shrinkables.equals(that.shrinkables)
+					   && result.equals(that.result);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(params, shrinkables, result);
+		}
+	}
+
 	private static class FilteredResults {
 
 		public static final int MAX_SIZE = 100;
 
-		Comparator<? super Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult>> resultComparator =
-			Comparator.comparing(left -> calculateDistance(left.get2()));
+		Comparator<ShrinkingTry> resultComparator = Comparator.comparing(shrinkingTry -> shrinkingTry.distance);
 
-		PriorityQueue<Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult>> prioritizedResults = new PriorityQueue<>(resultComparator);
+		PriorityQueue<ShrinkingTry> prioritizedResults = new PriorityQueue<>(resultComparator);
 
-		Set<Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult>> removedResults = new HashSet<>();
+		Set<ShrinkingTry> removedResults = new HashSet<>();
 
-		void push(Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult> result) {
+		void push(ShrinkingTry result) {
 			if (removedResults.contains(result)) {
 				return;
 			}
@@ -122,8 +204,8 @@ abstract class AbstractSampleShrinker {
 			return prioritizedResults.isEmpty();
 		}
 
-		Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult> pop() {
-			Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult> result = prioritizedResults.peek();
+		ShrinkingTry pop() {
+			ShrinkingTry result = prioritizedResults.peek();
 			prioritizedResults.remove(result);
 			removedResults.add(result);
 			return result;
@@ -26,7 +26,11 @@ public class CombinedShrinkable<T> implements Shrinkable<T> {
 	}
 
 	private List<Object> createValues(List<Shrinkable<Object>> shrinkables) {
-		return shrinkables.stream().map(Shrinkable::value).collect(Collectors.toList());
+		List<Object> values = new ArrayList<>(shrinkables.size());
+		for (Shrinkable<Object> shrinkable : shrinkables) {
+			values.add(shrinkable.value());
+		}
+		return values;
 	}
 
 	@Override
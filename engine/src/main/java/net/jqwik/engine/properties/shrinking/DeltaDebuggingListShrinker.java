@@ -0,0 +1,124 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.stream.*;
+
+/**
+ * Shrinks a list by removing chunks of elements with increasing granularity
+ * as done by the ddmin algorithm of delta debugging.
+ *
+ * <p>
+ * For granularity {@code n} the list is split into {@code n} chunks of about the same size.
+ * Candidates keep a single chunk or remove a single chunk.
+ * Granularity starts with 2 and doubles until chunks consist of single elements.
+ * All candidates are created lazily since usually the first falsified candidate is taken.
+ * </p>
+ */
+public class DeltaDebuggingListShrinker {
+
+	/**
+	 * Lists of at least this size should be shrunk by delta debugging
+	 * since removing one element after the other would take too many steps.
+	 */
+	public static final int MIN_LARGE_LIST_SIZE = 100;
+
+	public <T> Stream<List<T>> shrink(List<T> toShrink, int minSize) {
+		if (toShrink.size() <= minSize) {
+			return Stream.empty();
+		}
+		Iterator<List<T>> candidates = new CandidatesIterator<>(toShrink, minSize);
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(candidates, Spliterator.ORDERED), false);
+	}
+
+	private static class CandidatesIterator<T> implements Iterator<List<T>> {
+
+		private final List<T> toShrink;
+		private final int minSize;
+
+		private boolean cutToMinSizeDone = false;
+		private int granularity = 2;
+		private int chunk = 0;
+		// Keeping a single chunk is the same as removing the other one for granularity 2
+		private boolean removeChunk = true;
+		private List<T> next = null;
+
+		private CandidatesIterator(List<T> toShrink, int minSize) {
+			this.toShrink = toShrink;
+			this.minSize = minSize;
+		}
+
+		@Override
+		public boolean hasNext() {
+			if (next == null) {
+				next = computeNext();
+			}
+			return next != null;
+		}
+
+		@Override
+		public List<T> next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			List<T> candidate = next;
+			next = null;
+			return candidate;
+		}
+
+		private List<T> computeNext() {
+			if (!cutToMinSizeDone) {
+				cutToMinSizeDone = true;
+				return new ArrayList<>(toShrink.subList(0, minSize));
+			}
+			while (granularity <= toShrink.size()) {
+				int start = chunkStart(chunk);
+				int end = chunkStart(chunk + 1);
+				List<T> candidate = removeChunk ? withoutChunk(start, end) : onlyChunk(start, end);
+				advance();
+				if (candidate != null) {
+					return candidate;
+				}
+			}
+			return null;
+		}
+
+		private void advance() {
+			chunk++;
+			if (chunk < granularity) {
+				return;
+			}
+			chunk = 0;
+			if (!removeChunk) {
+				removeChunk = true;
+				return;
+			}
+			if (granularity == toShrink.size()) {
+				granularity = Integer.MAX_VALUE;
+				return;
+			}
+			granularity = Math.min(granularity * 2, toShrink.size());
+			removeChunk = false;
+		}
+
+		private int chunkStart(int chunkIndex) {
+			return (int) ((long) chunkIndex * toShrink.size() / granularity);
+		}
+
+		private List<T> onlyChunk(int start, int end) {
+			if (end - start < minSize || end - start == toShrink.size()) {
+				return null;
+			}
+			return new ArrayList<>(toShrink.subList(start, end));
+		}
+
+		private List<T> withoutChunk(int start, int end) {
+			if (toShrink.size() - (end - start) < minSize || end == start) {
+				return null;
+			}
+			List<T> candidate = new ArrayList<>(toShrink.size() - (end - start));
+			candidate.addAll(toShrink.subList(0, start));
+			candidate.addAll(toShrink.subList(end, toShrink.size()));
+			return candidate;
+		}
+	}
+}
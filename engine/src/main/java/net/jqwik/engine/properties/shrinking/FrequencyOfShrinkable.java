@@ -0,0 +1,97 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * A value generated by one of several alternatives.
+ *
+ * <p>
+ * Shrinking first shrinks the chosen value and then tries the alternatives with a lower index,
+ * which are generated only when shrinking gets there.
+ * </p>
+ */
+public class FrequencyOfShrinkable<T> implements Shrinkable<T> {
+
+	private final int index;
+	private final Shrinkable<T> chosen;
+	private final IntFunction<Shrinkable<T>> generateAlternative;
+
+	public FrequencyOfShrinkable(int index, Shrinkable<T> chosen, IntFunction<Shrinkable<T>> generateAlternative) {
+		this.index = index;
+		this.chosen = chosen;
+		this.generateAlternative = generateAlternative;
+	}
+
+	@Override
+	public T value() {
+		return chosen.value();
+	}
+
+	@Override
+	public Stream<Shrinkable<T>> shrink() {
+		return JqwikStreamSupport.concat(
+				shrinkChosen(),
+				earlierAlternatives().map(alternative -> alternative),
+				earlierAlternatives().flatMap(FrequencyOfShrinkable::growChosen)
+		);
+	}
+
+	private Stream<Shrinkable<T>> shrinkChosen() {
+		final ShrinkingDistance chosenDistance = chosen.distance();
+		return chosen.shrink()
+					 .filter(s -> s.distance().size() <= chosenDistance.size())
+					 .map(this::withChosen);
+	}
+
+	private Stream<FrequencyOfShrinkable<T>> earlierAlternatives() {
+		return IntStream.range(0, index)
+						.mapToObj(alternative -> new FrequencyOfShrinkable<>(
+								alternative,
+								generateAlternative.apply(alternative),
+								generateAlternative
+						));
+	}
+
+	private Stream<Shrinkable<T>> growChosen() {
+		return chosen.grow().map(this::withChosen);
+	}
+
+	private Shrinkable<T> withChosen(Shrinkable<T> newChosen) {
+		return new FrequencyOfShrinkable<>(index, newChosen, generateAlternative);
+	}
+
+	@Override
+	public ShrinkingDistance distance() {
+		return ShrinkingDistance.of(index).append(chosen.distance());
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (!(o instanceof FrequencyOfShrinkable)) return false;
+		FrequencyOfShrinkable<?> that = (FrequencyOfShrinkable<?>) o;
+		return Objects.equals(value(), that.value());
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(value());
+	}
+
+	@Override
+	public String toString() {
+		return String.format(
+				"%s<%s>(%s:%s)|%s",
+				getClass().getSimpleName(),
+				value().getClass().getSimpleName(),
+				value(),
+				distance(),
+				index
+		);
+	}
+}
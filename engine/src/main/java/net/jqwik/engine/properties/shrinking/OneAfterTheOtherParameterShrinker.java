@@ -9,8 +9,12 @@ import net.jqwik.api.lifecycle.*;
 
 class OneAfterTheOtherParameterShrinker extends AbstractSampleShrinker {
 
-	public OneAfterTheOtherParameterShrinker(Map<List<Object>, TryExecutionResult> falsificationCache) {
-		super(falsificationCache);
+	public OneAfterTheOtherParameterShrinker(
+		Map<List<Object>, TryExecutionResult> falsificationCache,
+		ShrinkingStatistics statistics,
+		ShrinkingCancellation cancellation
+	) {
+		super(falsificationCache, statistics, cancellation);
 	}
 
 	@Override
@@ -10,8 +10,12 @@ import net.jqwik.engine.support.*;
 
 class PairwiseParameterShrinker extends AbstractSampleShrinker {
 
-	public PairwiseParameterShrinker(Map<List<Object>, TryExecutionResult> falsificationCache) {
-		super(falsificationCache);
+	public PairwiseParameterShrinker(
+		Map<List<Object>, TryExecutionResult> falsificationCache,
+		ShrinkingStatistics statistics,
+		ShrinkingCancellation cancellation
+	) {
+		super(falsificationCache, statistics, cancellation);
 	}
 
 	@Override
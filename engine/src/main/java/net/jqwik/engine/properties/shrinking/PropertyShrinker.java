@@ -18,6 +18,8 @@ import net.jqwik.engine.support.*;
 public class PropertyShrinker {
 
 	private static final Logger LOG = Logger.getLogger(PropertyShrinker.class.getName());
+	private static final AtomicInteger SHRINKING_THREAD_COUNTER = new AtomicInteger(0);
+	private static final long CANCELLATION_GRACE_PERIOD_MILLIS = 300;
 
 	private final FalsifiedSample originalSample;
 	private final ShrinkingMode shrinkingMode;
@@ -27,8 +29,11 @@ public class PropertyShrinker {
 
 	private final AtomicInteger shrinkingStepsCounter = new AtomicInteger(0);
 	private final Map<List<Object>, TryExecutionResult> falsificationCache = new HashMap<>();
+	private final ShrinkingStatistics statistics = new ShrinkingStatistics();
+	private final ShrinkingCancellation cancellation = new ShrinkingCancellation();
 
-	private Optional<FalsifiedSample> currentBest = Optional.empty();
+	// Written by the shrinking thread and read by the waiting thread in case of timeout
+	private volatile Optional<FalsifiedSample> currentBest = Optional.empty();
 
 	public PropertyShrinker(
 		FalsifiedSample originalSample,
@@ -87,19 +92,58 @@ public class PropertyShrinker {
 	}
 
 	private FalsifiedSample withTimeout(Supplier<FalsifiedSample> shrinkUntilDone) {
+		TestDescriptor current = CurrentTestDescriptor.get();
+		Callable<FalsifiedSample> shrinkWithTestDescriptor = () -> CurrentTestDescriptor.runWithDescriptor(current, () -> {
+			try {
+				return shrinkUntilDone.get();
+			} catch (ShrinkingCancellation.ShrinkingCancelledException cancelled) {
+				return currentBest.orElse(originalSample);
+			}
+		});
+		FutureTask<FalsifiedSample> shrinkingTask = new FutureTask<>(shrinkWithTestDescriptor);
+		Thread shrinkingThread = startShrinkingThread(shrinkingTask);
 		try {
-			TestDescriptor current = CurrentTestDescriptor.get();
-			Supplier<FalsifiedSample> shrinkWithTestDescriptor = () -> CurrentTestDescriptor.runWithDescriptor(current, shrinkUntilDone);
-			CompletableFuture<FalsifiedSample> falsifiedSampleFuture = CompletableFuture.supplyAsync(shrinkWithTestDescriptor);
-			return falsifiedSampleFuture.get(boundedShrinkingSeconds, TimeUnit.SECONDS);
-		} catch (InterruptedException | ExecutionException e) {
+			return shrinkingTask.get(boundedShrinkingSeconds, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			cancelShrinking(shrinkingTask, shrinkingThread);
 			return JqwikExceptionSupport.throwAsUncheckedException(e);
+		} catch (ExecutionException e) {
+			return JqwikExceptionSupport.throwAsUncheckedException(e.getCause());
 		} catch (TimeoutException e) {
+			cancelShrinking(shrinkingTask, shrinkingThread);
+			statistics.timeoutReached();
 			logShrinkingBoundReached();
 			return currentBest.orElse(originalSample);
 		}
 	}
 
+	// A dedicated thread - instead of the common fork join pool - makes sure that
+	// shrinking can be stopped without affecting any other tasks
+	private Thread startShrinkingThread(FutureTask<FalsifiedSample> shrinkingTask) {
+		Thread shrinkingThread = new Thread(shrinkingTask, "jqwik-shrinking-" + SHRINKING_THREAD_COUNTER.incrementAndGet());
+		shrinkingThread.setDaemon(true);
+		shrinkingThread.start();
+		return shrinkingThread;
+	}
+
+	private void cancelShrinking(FutureTask<FalsifiedSample> shrinkingTask, Thread shrinkingThread) {
+		cancellation.cancel();
+		shrinkingTask.cancel(true);
+		try {
+			// Give the currently running falsifier call the chance to finish
+			// so that no property code is running in the background when the next property starts
+			shrinkingThread.join(CANCELLATION_GRACE_PERIOD_MILLIS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		if (shrinkingThread.isAlive()) {
+			LOG.warning(() -> String.format(
+				"Shrinking thread [%s] did not stop after cancellation. Property code is probably still running.",
+				shrinkingThread.getName()
+			));
+		}
+	}
+
 	public FalsifiedSample shrinkAsLongAsSampleImproves(
 		final Falsifier<List<Object>> falsifier,
 		final Consumer<FalsifiedSample> shrinkSampleConsumer,
@@ -121,8 +165,8 @@ public class PropertyShrinker {
 		Consumer<FalsifiedSample> shrinkSampleConsumer,
 		Consumer<FalsifiedSample> shrinkAttemptConsumer
 	) {
-		return new OneAfterTheOtherParameterShrinker(falsificationCache)
-				   .shrink(falsifier, sample, shrinkSampleConsumer, shrinkAttemptConsumer);
+		AbstractSampleShrinker shrinker = new OneAfterTheOtherParameterShrinker(falsificationCache, statistics, cancellation);
+		return shrinkOneRound(shrinker, falsifier, sample, shrinkSampleConsumer, shrinkAttemptConsumer);
 	}
 
 	private FalsifiedSample shrinkParametersPairwise(
@@ -131,7 +175,29 @@ public class PropertyShrinker {
 		Consumer<FalsifiedSample> shrinkSampleConsumer,
 		Consumer<FalsifiedSample> shrinkAttemptConsumer
 	) {
-		return new PairwiseParameterShrinker(falsificationCache).shrink(falsifier, sample, shrinkSampleConsumer, shrinkAttemptConsumer);
+		AbstractSampleShrinker shrinker = new PairwiseParameterShrinker(falsificationCache, statistics, cancellation);
+		return shrinkOneRound(shrinker, falsifier, sample, shrinkSampleConsumer, shrinkAttemptConsumer);
+	}
+
+	private FalsifiedSample shrinkOneRound(
+		AbstractSampleShrinker shrinker,
+		Falsifier<List<Object>> falsifier,
+		FalsifiedSample sample,
+		Consumer<FalsifiedSample> shrinkSampleConsumer,
+		Consumer<FalsifiedSample> shrinkAttemptConsumer
+	) {
+		long roundStart = System.nanoTime();
+		int stepsBefore = statistics.countSteps();
+		FalsifiedSample shrunkSample = shrinker.shrink(falsifier, sample, shrinkSampleConsumer, shrinkAttemptConsumer);
+		statistics.roundDone(shrinker.getClass().getSimpleName(), System.nanoTime() - roundStart, statistics.countSteps() - stepsBefore);
+		return shrunkSample;
+	}
+
+	/**
+	 * @return instrumentation data of the current or last shrinking run
+	 */
+	public ShrinkingStatistics statistics() {
+		return statistics;
 	}
 
 	private ShrunkFalsifiedSample unshrunkOriginalSample() {
@@ -146,8 +212,10 @@ public class PropertyShrinker {
 	private void logShrinkingBoundReached() {
 		String value = String.format(
 			"Shrinking timeout reached after %s seconds." +
+				"%n  Shrinking so far: %s" +
 				"%n  You can switch on full shrinking with '@Property(shrinking = ShrinkingMode.FULL)'",
-			boundedShrinkingSeconds
+			boundedShrinkingSeconds,
+			statistics.summary()
 		);
 		LOG.warning(value);
 	}
@@ -0,0 +1,71 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.math.*;
+import java.util.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.*;
+
+/**
+ * Shrinks characters towards the lower end of their range.
+ *
+ * <p>
+ * Value and distance are plain char arithmetic since a shrinkable is created for every generated character.
+ * Shrinking and growing reuse the strategies of {@linkplain ShrinkableBigInteger}.
+ * </p>
+ */
+public class ShrinkableCharacter extends AbstractValueShrinkable<Character> {
+	private final char min;
+	private final char max;
+
+	public ShrinkableCharacter(char value, char min, char max) {
+		super(value);
+		this.min = min;
+		this.max = max;
+		if (value < min || value > max) {
+			String message = String.format("Value <%s> is outside allowed range [%s..%s]", value, min, max);
+			throw new JqwikException(message);
+		}
+	}
+
+	@Override
+	public Stream<Shrinkable<Character>> shrink() {
+		return new BigIntegerShrinker(BigInteger.valueOf(min))
+				   .shrink(BigInteger.valueOf(value()))
+				   .map(this::createShrinkable)
+				   .sorted(Comparator.comparing(Shrinkable::distance));
+	}
+
+	@Override
+	public Optional<Shrinkable<Character>> grow(Shrinkable<?> before, Shrinkable<?> after) {
+		Object beforeValue = before.value();
+		Object afterValue = after.value();
+		if (!(beforeValue instanceof Character) || !(afterValue instanceof Character)) {
+			return Optional.empty();
+		}
+		int diff = (Character) beforeValue - (Character) afterValue;
+		int grownValue = value() + diff;
+		if (diff != 0 && grownValue >= min && grownValue <= max) {
+			return Optional.of(new ShrinkableCharacter((char) grownValue, min, max));
+		}
+		return Optional.empty();
+	}
+
+	@Override
+	public Stream<Shrinkable<Character>> grow() {
+		Range<BigInteger> range = Range.of(BigInteger.valueOf(min), BigInteger.valueOf(max));
+		return new BigIntegerGrower()
+				   .grow(BigInteger.valueOf(value()), range, BigInteger.valueOf(min))
+				   .map(grown -> createShrinkable(grown.value()));
+	}
+
+	private Shrinkable<Character> createShrinkable(BigInteger aBigInteger) {
+		return new ShrinkableCharacter((char) aBigInteger.intValueExact(), min, max);
+	}
+
+	@Override
+	public ShrinkingDistance distance() {
+		return ShrinkingDistance.of(value() - min);
+	}
+}
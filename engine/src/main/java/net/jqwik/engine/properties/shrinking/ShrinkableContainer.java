@@ -22,17 +22,12 @@ abstract class ShrinkableContainer<C, E> implements Shrinkable<C> {
 		this.uniquenessExtractors = uniquenessExtractors;
 	}
 
-	private C createValue(List<Shrinkable<E>> shrinkables) {
-		return shrinkables
-					   .stream()
-					   .map(Shrinkable::value)
-					   .collect(containerCollector());
-	}
-
+	/**
+	 * Subclasses create the container directly from the elements' values
+	 * since this happens for every generated value and every shrinking candidate.
+	 */
 	@Override
-	public C value() {
-		return createValue(elements);
-	}
+	public abstract C value();
 
 	@Override
 	public Stream<Shrinkable<C>> shrink() {
@@ -105,6 +100,11 @@ abstract class ShrinkableContainer<C, E> implements Shrinkable<C> {
 	}
 
 	protected Stream<Shrinkable<C>> shrinkSizeOfList() {
+		if (elements.size() >= DeltaDebuggingListShrinker.MIN_LARGE_LIST_SIZE) {
+			return new DeltaDebuggingListShrinker()
+						   .shrink(elements, minSize)
+						   .map(this::createShrinkable);
+		}
 		return new SizeOfListShrinker<Shrinkable<E>>(minSize)
 					   .shrink(elements)
 					   .map(this::createShrinkable)
@@ -187,6 +187,4 @@ abstract class ShrinkableContainer<C, E> implements Shrinkable<C> {
 
 	abstract Shrinkable<C> createShrinkable(List<Shrinkable<E>> shrunkElements);
 
-	abstract Collector<E, ?, C> containerCollector();
-
 }
@@ -21,8 +21,12 @@ public class ShrinkableList<E> extends ShrinkableContainer<List<E>, E> {
 	}
 
 	@Override
-	Collector<E, ?, List<E>> containerCollector() {
-		return Collectors.toList();
+	public List<E> value() {
+		List<E> values = new ArrayList<>(elements.size());
+		for (Shrinkable<E> element : elements) {
+			values.add(element.value());
+		}
+		return values;
 	}
 
 	@Override
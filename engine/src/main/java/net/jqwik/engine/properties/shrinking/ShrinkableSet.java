@@ -27,8 +27,12 @@ public class ShrinkableSet<E> extends ShrinkableContainer<Set<E>, E> {
 	}
 
 	@Override
-	Collector<E, ?, Set<E>> containerCollector() {
-		return Collectors.toSet();
+	public Set<E> value() {
+		Set<E> values = new HashSet<>(Math.max(16, elements.size() * 4 / 3 + 1));
+		for (Shrinkable<E> element : elements) {
+			values.add(element.value());
+		}
+		return values;
 	}
 
 	@Override
@@ -1,7 +1,6 @@
 package net.jqwik.engine.properties.shrinking;
 
 import java.util.*;
-import java.util.function.*;
 import java.util.stream.*;
 
 import net.jqwik.api.*;
@@ -14,8 +13,12 @@ public class ShrinkableString extends ShrinkableContainer<String, Character> {
 	}
 
 	@Override
-	Collector<Character, ?, String> containerCollector() {
-		return new CharacterCollector();
+	public String value() {
+		char[] chars = new char[elements.size()];
+		for (int i = 0; i < chars.length; i++) {
+			chars[i] = elements.get(i).value();
+		}
+		return new String(chars);
 	}
 
 	@Override
@@ -39,32 +42,4 @@ public class ShrinkableString extends ShrinkableContainer<String, Character> {
 				sortElements()
 		);
 	}
-
-	private static class CharacterCollector implements Collector<Character, StringBuilder, String> {
-		@Override
-		public Supplier<StringBuilder> supplier() {
-			return StringBuilder::new;
-		}
-
-		@Override
-		public BiConsumer<StringBuilder, Character> accumulator() {
-			return StringBuilder::appendCodePoint;
-		}
-
-		@Override
-		public BinaryOperator<StringBuilder> combiner() {
-			return StringBuilder::append;
-		}
-
-		@Override
-		public Function<StringBuilder, String> finisher() {
-			return StringBuilder::toString;
-		}
-
-		@Override
-		public Set<Collector.Characteristics> characteristics() {
-			return Collections.emptySet();
-		}
-
-	}
 }
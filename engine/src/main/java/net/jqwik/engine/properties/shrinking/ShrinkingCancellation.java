@@ -0,0 +1,26 @@
+package net.jqwik.engine.properties.shrinking;
+
+/**
+ * Allows to stop shrinking cooperatively. Shrinkers check for cancellation
+ * at candidate boundaries, i.e. before a candidate is generated or falsified.
+ */
+class ShrinkingCancellation {
+
+	private volatile boolean cancelled = false;
+
+	void cancel() {
+		cancelled = true;
+	}
+
+	void checkNotCancelled() {
+		if (cancelled) {
+			throw new ShrinkingCancelledException();
+		}
+	}
+
+	static class ShrinkingCancelledException extends RuntimeException {
+		private ShrinkingCancelledException() {
+			super("Shrinking has been cancelled", null, false, false);
+		}
+	}
+}
@@ -0,0 +1,213 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import net.jqwik.api.*;
+
+/**
+ * Collects instrumentation data while shrinking a falsified sample.
+ *
+ * <p>
+ * Shrinking can run in a different thread than the one reading the statistics,
+ * e.g. when bounded shrinking times out. That's why all counters and event lists are thread safe.
+ * </p>
+ */
+public class ShrinkingStatistics {
+
+	private final long startNanos = System.nanoTime();
+
+	private final AtomicInteger candidates = new AtomicInteger(0);
+	private final AtomicInteger candidatesFilteredByDistance = new AtomicInteger(0);
+	private final AtomicInteger falsifierCalls = new AtomicInteger(0);
+	private final AtomicInteger cacheHits = new AtomicInteger(0);
+	private final AtomicInteger invalidCandidates = new AtomicInteger(0);
+	private final AtomicInteger steps = new AtomicInteger(0);
+
+	private final List<Round> rounds = new CopyOnWriteArrayList<>();
+	private final List<DistancePoint> distances = new CopyOnWriteArrayList<>();
+
+	private volatile boolean timedOut = false;
+
+	void candidateSupplied() {
+		candidates.incrementAndGet();
+	}
+
+	void candidateFilteredByDistance() {
+		candidatesFilteredByDistance.incrementAndGet();
+	}
+
+	void falsifierCalled() {
+		falsifierCalls.incrementAndGet();
+	}
+
+	void cacheHit() {
+		cacheHits.incrementAndGet();
+	}
+
+	void invalidCandidate() {
+		invalidCandidates.incrementAndGet();
+	}
+
+	void stepDone(ShrinkingDistance distance) {
+		steps.incrementAndGet();
+		distances.add(new DistancePoint(elapsedNanos(), distance));
+	}
+
+	void roundDone(String shrinkerName, long roundNanos, int stepsInRound) {
+		rounds.add(new Round(shrinkerName, elapsedNanos(), roundNanos, stepsInRound));
+	}
+
+	void timeoutReached() {
+		timedOut = true;
+	}
+
+	public int countCandidates() {
+		return candidates.get();
+	}
+
+	public int countCandidatesFilteredByDistance() {
+		return candidatesFilteredByDistance.get();
+	}
+
+	public int countFalsifierCalls() {
+		return falsifierCalls.get();
+	}
+
+	public int countCacheHits() {
+		return cacheHits.get();
+	}
+
+	public int countInvalidCandidates() {
+		return invalidCandidates.get();
+	}
+
+	public int countSteps() {
+		return steps.get();
+	}
+
+	public int countRounds() {
+		return rounds.size();
+	}
+
+	public boolean timedOut() {
+		return timedOut;
+	}
+
+	public long elapsedMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(elapsedNanos());
+	}
+
+	/**
+	 * @return accumulated milliseconds spent per shrinker type
+	 */
+	public Map<String, Long> millisPerShrinker() {
+		Map<String, Long> nanosPerShrinker = new LinkedHashMap<>();
+		for (Round round : rounds) {
+			nanosPerShrinker.merge(round.shrinkerName, round.roundNanos, Long::sum);
+		}
+		Map<String, Long> millisPerShrinker = new LinkedHashMap<>();
+		nanosPerShrinker.forEach((name, nanos) -> millisPerShrinker.put(name, TimeUnit.NANOSECONDS.toMillis(nanos)));
+		return millisPerShrinker;
+	}
+
+	public String summary() {
+		return String.format(
+			"%d steps in %d ms: %d candidates, %d filtered by distance, %d falsifier calls, %d cache hits, %d invalid",
+			countSteps(),
+			elapsedMillis(),
+			countCandidates(),
+			countCandidatesFilteredByDistance(),
+			countFalsifierCalls(),
+			countCacheHits(),
+			countInvalidCandidates()
+		);
+	}
+
+	public Map<String, Object> report() {
+		Map<String, Object> report = new LinkedHashMap<>();
+		report.put("steps", countSteps());
+		report.put("time (ms)", elapsedMillis());
+		report.put("timed out", timedOut());
+		report.put("candidates", countCandidates());
+		report.put("filtered by distance", countCandidatesFilteredByDistance());
+		report.put("falsifier calls", countFalsifierCalls());
+		report.put("cache hits", countCacheHits());
+		report.put("invalid candidates", countInvalidCandidates());
+		report.put("rounds", countRounds());
+		millisPerShrinker().forEach((name, millis) -> report.put(String.format("%s (ms)", name), millis));
+		return report;
+	}
+
+	/**
+	 * Write all shrinking events to a file in CSV format:
+	 * {@code elapsed-ms,event,shrinker,duration-ms,steps,distance}
+	 */
+	public void writeTrace(Path traceFile) throws IOException {
+		List<String> lines = new ArrayList<>();
+		lines.add("elapsed-ms,event,shrinker,duration-ms,steps,distance");
+		List<TraceLine> events = new ArrayList<>();
+		for (DistancePoint point : distances) {
+			events.add(new TraceLine(point.elapsedNanos, String.format("step,,,,\"%s\"", point.distance)));
+		}
+		for (Round round : rounds) {
+			events.add(new TraceLine(
+				round.endNanos,
+				String.format("round,%s,%d,%d,", round.shrinkerName, TimeUnit.NANOSECONDS.toMillis(round.roundNanos), round.steps)
+			));
+		}
+		events.sort(Comparator.comparing(line -> line.elapsedNanos));
+		for (TraceLine event : events) {
+			lines.add(String.format("%d,%s", TimeUnit.NANOSECONDS.toMillis(event.elapsedNanos), event.content));
+		}
+		lines.add(String.format("%d,end,,,%d,%s", elapsedMillis(), countSteps(), timedOut() ? "timeout" : ""));
+		Files.write(traceFile, lines, StandardCharsets.UTF_8);
+	}
+
+	private long elapsedNanos() {
+		return System.nanoTime() - startNanos;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("ShrinkingStatistics[%s]", summary());
+	}
+
+	private static class Round {
+		private final String shrinkerName;
+		private final long endNanos;
+		private final long roundNanos;
+		private final int steps;
+
+		private Round(String shrinkerName, long endNanos, long roundNanos, int steps) {
+			this.shrinkerName = shrinkerName;
+			this.endNanos = endNanos;
+			this.roundNanos = roundNanos;
+			this.steps = steps;
+		}
+	}
+
+	private static class DistancePoint {
+		private final long elapsedNanos;
+		private final ShrinkingDistance distance;
+
+		private DistancePoint(long elapsedNanos, ShrinkingDistance distance) {
+			this.elapsedNanos = elapsedNanos;
+			this.distance = distance;
+		}
+	}
+
+	private static class TraceLine {
+		private final long elapsedNanos;
+		private final String content;
+
+		private TraceLine(long elapsedNanos, String content) {
+			this.elapsedNanos = elapsedNanos;
+			this.content = content;
+		}
+	}
+}
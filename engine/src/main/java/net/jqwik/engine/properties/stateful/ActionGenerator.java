@@ -10,4 +10,9 @@ interface ActionGenerator<M> {
 	Action<M> next(M model);
 
 	List<Shrinkable<Action<M>>> generated();
+
+	/**
+	 * @return number of actions that were drawn but not used because their precondition did not hold
+	 */
+	int rejectedActions();
 }
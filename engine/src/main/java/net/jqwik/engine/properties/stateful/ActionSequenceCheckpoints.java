@@ -0,0 +1,83 @@
+package net.jqwik.engine.properties.stateful;
+
+import java.util.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.Tuple.*;
+import net.jqwik.api.stateful.*;
+
+/**
+ * Snapshots of the model taken every {@code interval} actions during the initial run of an action sequence.
+ *
+ * <p>
+ * Shrinking candidates that start with the same actions as the sequence
+ * can resume from the latest shared snapshot instead of running all of these actions again.
+ * </p>
+ */
+class ActionSequenceCheckpoints<M> {
+
+	private final Function<M, M> snapshot;
+	private final int interval;
+	private final Map<Integer, M> modelsAfterActions = new HashMap<>();
+
+	ActionSequenceCheckpoints(Function<M, M> snapshot, int interval) {
+		if (interval < 1) {
+			throw new IllegalArgumentException("Checkpoint interval must be at least 1");
+		}
+		this.snapshot = snapshot;
+		this.interval = interval;
+	}
+
+	/**
+	 * @param sharedActions number of actions the next sequence shares with the sequence of these checkpoints
+	 * @return checkpoints with the same snapshot function and interval that keep all snapshots of shared actions
+	 */
+	ActionSequenceCheckpoints<M> forNextSequence(int sharedActions) {
+		ActionSequenceCheckpoints<M> next = new ActionSequenceCheckpoints<>(snapshot, interval);
+		modelsAfterActions.forEach((actionsRun, model) -> {
+			if (actionsRun <= sharedActions) {
+				next.modelsAfterActions.put(actionsRun, model);
+			}
+		});
+		return next;
+	}
+
+	void actionRun(int actionsRun, M model) {
+		if (actionsRun % interval == 0) {
+			modelsAfterActions.put(actionsRun, snapshot.apply(model));
+		}
+	}
+
+	M restore(M checkpointModel) {
+		return snapshot.apply(checkpointModel);
+	}
+
+	/**
+	 * @param runActions the actions that created these checkpoints
+	 * @param candidateActions the actions of a shrinking candidate
+	 * @return number of actions and model after these actions of the latest checkpoint both lists share
+	 */
+	Optional<Tuple2<Integer, M>> latestSharedCheckpoint(
+		List<Shrinkable<Action<M>>> runActions,
+		List<Shrinkable<Action<M>>> candidateActions
+	) {
+		int shared = sharedPrefixSize(runActions, candidateActions);
+		for (int actionsRun = shared - shared % interval; actionsRun > 0; actionsRun -= interval) {
+			if (modelsAfterActions.containsKey(actionsRun)) {
+				return Optional.of(Tuple.of(actionsRun, modelsAfterActions.get(actionsRun)));
+			}
+		}
+		return Optional.empty();
+	}
+
+	private int sharedPrefixSize(List<Shrinkable<Action<M>>> left, List<Shrinkable<Action<M>>> right) {
+		int maxSize = Math.min(left.size(), right.size());
+		for (int i = 0; i < maxSize; i++) {
+			if (left.get(i) != right.get(i)) {
+				return i;
+			}
+		}
+		return maxSize;
+	}
+}
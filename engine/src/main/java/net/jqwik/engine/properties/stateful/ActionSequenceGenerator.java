@@ -1,27 +1,39 @@
 package net.jqwik.engine.properties.stateful;
 
 import java.util.*;
+import java.util.function.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.stateful.*;
 
 class ActionSequenceGenerator<M> implements RandomGenerator<ActionSequence<M>> {
-	private final int genSize;
 	private final int minSize;
 	private final int maxSize;
-	private final Arbitrary<Action<M>> actionArbitrary;
+	private final Function<Random, ActionGenerator<M>> actionGenerators;
+	private final Function<M, M> snapshot;
 
-	ActionSequenceGenerator(Arbitrary<Action<M>> actionArbitrary, int genSize, int minSize, int maxSize) {
-		this.actionArbitrary = actionArbitrary;
-		this.genSize = genSize;
+	ActionSequenceGenerator(Function<Random, ActionGenerator<M>> actionGenerators, int minSize, int maxSize, Function<M, M> snapshot) {
+		this.actionGenerators = actionGenerators;
 		this.minSize = minSize;
 		this.maxSize = maxSize;
+		this.snapshot = snapshot;
 	}
 
 	@Override
 	public Shrinkable<ActionSequence<M>> next(Random random) {
-		ActionGenerator<M> actionGenerator = new RandomActionGenerator<>(actionArbitrary, genSize, random);
-		return new ShrinkableActionSequence<>(actionGenerator, minSize, maxSize, ShrinkingDistance.of(maxSize));
+		ActionGenerator<M> actionGenerator = actionGenerators.apply(random);
+		if (snapshot == null) {
+			return new ShrinkableActionSequence<>(actionGenerator, minSize, maxSize, ShrinkingDistance.of(maxSize));
+		}
+		return new ShrinkableActionSequence<>(
+			actionGenerator, minSize, maxSize, ShrinkingDistance.of(maxSize),
+			new ActionSequenceCheckpoints<>(snapshot, checkpointInterval()), null
+		);
+	}
+
+	// Keeps both the number of snapshots and the number of actions to run after a snapshot in O(sqrt(maxSize))
+	private int checkpointInterval() {
+		return Math.max(1, (int) Math.sqrt(maxSize));
 	}
 
 }
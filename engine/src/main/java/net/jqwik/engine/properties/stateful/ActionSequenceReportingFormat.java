@@ -25,6 +25,9 @@ public class ActionSequenceReportingFormat implements SampleReportingFormat {
 			label = String.format("ActionSequence[%s]: %s actions intended ", sequence.runState().name(), sequence.size());
 		} else {
 			label = String.format("ActionSequence[%s]: %s actions run ", sequence.runState().name(), sequence.size());
+			if (sequence.rejectedActions() > 0) {
+				label += String.format("(%s rejected) ", sequence.rejectedActions());
+			}
 		}
 		return Optional.ofNullable(label);
 	}
@@ -0,0 +1,89 @@
+package net.jqwik.engine.properties.stateful;
+
+import java.util.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.stateful.*;
+
+/**
+ * Only draws from action types whose precondition holds for the current model.
+ * Actions are only rejected if the precondition of the drawn action itself does not hold.
+ * Generated shrinkables keep the precondition of their action type for shrinking.
+ */
+class ActionTypesActionGenerator<M> implements ActionGenerator<M> {
+
+	private static final int MAX_TRIES = 1000;
+
+	private final List<ActionType<M>> actionTypes;
+	private final List<RandomGenerator<Action<M>>> generators = new ArrayList<>();
+	private final Random random;
+	private final int[] possibleTypes;
+	private final List<Shrinkable<Action<M>>> shrinkableActions = new ArrayList<>();
+	private int rejectedActions = 0;
+
+	ActionTypesActionGenerator(List<ActionType<M>> actionTypes, int genSize, Random random) {
+		this.actionTypes = actionTypes;
+		this.random = random;
+		this.possibleTypes = new int[actionTypes.size()];
+		long sumOfWeights = 0;
+		for (ActionType<M> actionType : actionTypes) {
+			sumOfWeights += actionType.weight();
+			if (sumOfWeights > Integer.MAX_VALUE) {
+				throw new IllegalArgumentException("Sum of action type weights must not exceed " + Integer.MAX_VALUE);
+			}
+			generators.add(actionType.actions().generator(genSize));
+		}
+	}
+
+	@Override
+	public Action<M> next(M model) {
+		int numberOfPossibleTypes = 0;
+		int totalWeight = 0;
+		for (int i = 0; i < actionTypes.size(); i++) {
+			ActionType<M> actionType = actionTypes.get(i);
+			if (actionType.precondition(model)) {
+				possibleTypes[numberOfPossibleTypes++] = i;
+				totalWeight += actionType.weight();
+			}
+		}
+		if (numberOfPossibleTypes == 0) {
+			throw new NoSuchElementException("No action type with succeeding precondition");
+		}
+		int tries = 0;
+		while (tries++ < MAX_TRIES) {
+			int typeIndex = chooseType(numberOfPossibleTypes, totalWeight);
+			Shrinkable<Action<M>> shrinkable = generators.get(typeIndex).next(random);
+			if (!shrinkable.value().precondition(model)) {
+				rejectedActions++;
+				continue;
+			}
+			ActionType<M> actionType = actionTypes.get(typeIndex);
+			shrinkableActions.add(shrinkable.map(action -> new GuardedAction<>(actionType, action)));
+			return shrinkable.value();
+		}
+		String message = String.format("Could not find action with succeeding precondition after %s tries", tries);
+		throw new NoSuchElementException(message);
+	}
+
+	private int chooseType(int numberOfPossibleTypes, int totalWeight) {
+		int choice = random.nextInt(totalWeight);
+		for (int i = 0; i < numberOfPossibleTypes - 1; i++) {
+			int typeIndex = possibleTypes[i];
+			choice -= actionTypes.get(typeIndex).weight();
+			if (choice < 0) {
+				return typeIndex;
+			}
+		}
+		return possibleTypes[numberOfPossibleTypes - 1];
+	}
+
+	@Override
+	public List<Shrinkable<Action<M>>> generated() {
+		return shrinkableActions;
+	}
+
+	@Override
+	public int rejectedActions() {
+		return rejectedActions;
+	}
+}
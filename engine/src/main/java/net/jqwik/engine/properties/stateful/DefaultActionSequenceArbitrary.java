@@ -1,5 +1,8 @@
 package net.jqwik.engine.properties.stateful;
 
+import java.util.*;
+import java.util.function.*;
+
 import net.jqwik.api.*;
 import net.jqwik.api.stateful.*;
 import net.jqwik.engine.properties.arbitraries.*;
@@ -7,13 +10,21 @@ import net.jqwik.engine.properties.arbitraries.*;
 public class DefaultActionSequenceArbitrary<M> extends TypedCloneable implements ActionSequenceArbitrary<M> {
 
 	private final Arbitrary<Action<M>> actionArbitrary;
+	private final List<ActionType<M>> actionTypes;
 
 	private int minSize = 1;
 	private int maxSize = 0;
+	private Function<M, M> snapshot = null;
 
 	public DefaultActionSequenceArbitrary(Arbitrary<? extends Action<M>> actionArbitrary) {
 		//noinspection unchecked
 		this.actionArbitrary = (Arbitrary<Action<M>>) actionArbitrary;
+		this.actionTypes = null;
+	}
+
+	public DefaultActionSequenceArbitrary(List<ActionType<M>> actionTypes) {
+		this.actionArbitrary = null;
+		this.actionTypes = actionTypes;
 	}
 
 	@Override
@@ -30,12 +41,26 @@ public class DefaultActionSequenceArbitrary<M> extends TypedCloneable implements
 		return clone;
 	}
 
+	@Override
+	public ActionSequenceArbitrary<M> withModelSnapshots(Function<M, M> snapshot) {
+		DefaultActionSequenceArbitrary<M> clone = typedClone();
+		clone.snapshot = snapshot;
+		return clone;
+	}
+
 	@Override
 	public RandomGenerator<ActionSequence<M>> generator(int genSize) {
 		final int effectiveMaxSize =
 			maxSize != 0 ? maxSize
 				: (int) Math.max(Math.round(Math.sqrt(genSize)), 10);
-		return new ActionSequenceGenerator<>(actionArbitrary, genSize, minSize, effectiveMaxSize);
+		return new ActionSequenceGenerator<>(actionGenerators(genSize), minSize, effectiveMaxSize, snapshot);
+	}
+
+	private Function<Random, ActionGenerator<M>> actionGenerators(int genSize) {
+		if (actionTypes != null) {
+			return random -> new ActionTypesActionGenerator<>(actionTypes, genSize, random);
+		}
+		return random -> new RandomActionGenerator<>(actionArbitrary, genSize, random);
 	}
 
 	@Override
@@ -0,0 +1,40 @@
+package net.jqwik.engine.properties.stateful;
+
+import net.jqwik.api.stateful.*;
+
+/**
+ * An action drawn from an {@linkplain ActionType} that keeps the type's precondition,
+ * so that shrunk sequences only run it where the type would have been drawn.
+ */
+class GuardedAction<M> implements Action<M> {
+
+	static <M> Action<M> unwrap(Action<M> action) {
+		if (action instanceof GuardedAction) {
+			return ((GuardedAction<M>) action).action;
+		}
+		return action;
+	}
+
+	private final ActionType<M> actionType;
+	private final Action<M> action;
+
+	GuardedAction(ActionType<M> actionType, Action<M> action) {
+		this.actionType = actionType;
+		this.action = action;
+	}
+
+	@Override
+	public boolean precondition(M model) {
+		return actionType.precondition(model) && action.precondition(model);
+	}
+
+	@Override
+	public M run(M model) {
+		return action.run(model);
+	}
+
+	@Override
+	public String toString() {
+		return action.toString();
+	}
+}
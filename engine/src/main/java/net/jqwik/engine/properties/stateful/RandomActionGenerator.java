@@ -12,6 +12,7 @@ class RandomActionGenerator<T> implements ActionGenerator<T> {
 	private final RandomGenerator<Action<T>> randomGenerator;
 	private final Random random;
 	private List<Shrinkable<Action<T>>> shrinkableActions = new ArrayList<>();
+	private int rejectedActions = 0;
 
 	RandomActionGenerator(Arbitrary<Action<T>> actionArbitrary, int genSize, Random random) {
 		this.random = random;
@@ -25,6 +26,7 @@ class RandomActionGenerator<T> implements ActionGenerator<T> {
 			Shrinkable<Action<T>> shrinkable = randomGenerator.next(random);
 			boolean precondition = shrinkable.value().precondition(model);
 			if (!precondition) {
+				rejectedActions++;
 				continue;
 			}
 			shrinkableActions.add(shrinkable);
@@ -38,4 +40,9 @@ class RandomActionGenerator<T> implements ActionGenerator<T> {
 	public List<Shrinkable<Action<T>>> generated() {
 		return shrinkableActions;
 	}
+
+	@Override
+	public int rejectedActions() {
+		return rejectedActions;
+	}
 }
@@ -19,20 +19,41 @@ class SequentialActionSequence<M> implements ActionSequence<M> {
 	private final List<Tuple2<String, Invariant<M>>> invariants = new ArrayList<>();
 	private final List<Consumer<M>> peekers = new ArrayList<>();
 
+	// Only needed during initial run. Released afterwards because sequences are kept for caching falsification results.
+	private ActionSequenceCheckpoints<M> checkpoints;
+	private Tuple2<Integer, M> resumeFrom;
+
 	protected RunState runState = RunState.NOT_RUN;
 	private M currentModel = null;
 
 	SequentialActionSequence(ActionGenerator<M> actionGenerator, int intendedSize) {
+		this(actionGenerator, intendedSize, null, null);
+	}
+
+	/**
+	 * @param checkpoints will be filled during initial run if not null
+	 * @param resumeFrom number of actions already run by {@code actionGenerator} and the model after these actions.
+	 *                   If not null, the initial run will skip these actions and continue with a snapshot of the model.
+	 */
+	SequentialActionSequence(
+		ActionGenerator<M> actionGenerator,
+		int intendedSize,
+		ActionSequenceCheckpoints<M> checkpoints,
+		Tuple2<Integer, M> resumeFrom
+	) {
 		if (intendedSize < 1) {
 			throw new IllegalArgumentException("The intended size of an ActionSequence must not be 0");
 		}
 		this.actionGenerator = actionGenerator;
 		this.intendedSize = intendedSize;
+		this.checkpoints = checkpoints;
+		this.resumeFrom = resumeFrom;
 	}
 
 	@Override
 	public synchronized List<Action<M>> runActions() {
-		return sequence;
+		// Users should see their own actions, not the ones wrapped to keep their type's precondition
+		return sequence.stream().map(GuardedAction::unwrap).collect(Collectors.toList());
 	}
 
 	@Override
@@ -52,18 +73,37 @@ class SequentialActionSequence<M> implements ActionSequence<M> {
 
 	private void initialRun() {
 		runState = RunState.RUNNING;
-		for (int i = 0; i < intendedSize; i++) {
-			Action<M> action;
-			try {
-				action = actionGenerator.next(currentModel);
-			} catch (NoSuchElementException nsee) {
-				break;
+		try {
+			if (resumeFrom != null) {
+				resumeFromCheckpoint();
+			}
+			for (int i = sequence.size(); i < intendedSize; i++) {
+				Action<M> action;
+				try {
+					action = actionGenerator.next(currentModel);
+				} catch (NoSuchElementException nsee) {
+					break;
+				}
+				sequence.add(action);
+				runAction(action);
+				if (checkpoints != null) {
+					checkpoints.actionRun(sequence.size(), currentModel);
+				}
 			}
-			sequence.add(action);
-			runAction(action);
+		} finally {
+			checkpoints = null;
+			resumeFrom = null;
 		}
 	}
 
+	private void resumeFromCheckpoint() {
+		List<Shrinkable<Action<M>>> alreadyRun = actionGenerator.generated().subList(0, resumeFrom.get1());
+		for (Shrinkable<Action<M>> shrinkable : alreadyRun) {
+			sequence.add(shrinkable.value());
+		}
+		currentModel = checkpoints.restore(resumeFrom.get2());
+	}
+
 	private void repeatedRun() {
 		runState = RunState.RUNNING;
 		for (Action<M> action : new ArrayList<>(sequence)) {
@@ -150,6 +190,11 @@ class SequentialActionSequence<M> implements ActionSequence<M> {
 		}
 	}
 
+	@Override
+	public int rejectedActions() {
+		return actionGenerator.rejectedActions();
+	}
+
 	@Override
 	public synchronized M finalModel() {
 		return currentModel;
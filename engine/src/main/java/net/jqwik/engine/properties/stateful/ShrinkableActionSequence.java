@@ -4,6 +4,7 @@ import java.util.*;
 import java.util.stream.*;
 
 import net.jqwik.api.*;
+import net.jqwik.api.Tuple.*;
 import net.jqwik.api.stateful.*;
 import net.jqwik.engine.properties.shrinking.*;
 import net.jqwik.engine.support.*;
@@ -14,21 +15,36 @@ class ShrinkableActionSequence<T> implements Shrinkable<ActionSequence<T>> {
 	private final int minSize;
 	private final int maxSize;
 	private final ShrinkingDistance distance;
+	private final ActionSequenceCheckpoints<T> checkpoints;
+	private final Tuple2<Integer, T> resumeFrom;
 
 	private SequentialActionSequence<T> generatedSequence = null;
 
 	ShrinkableActionSequence(ActionGenerator<T> actionGenerator, int minSize, int maxSize, ShrinkingDistance distance) {
+		this(actionGenerator, minSize, maxSize, distance, null, null);
+	}
+
+	ShrinkableActionSequence(
+		ActionGenerator<T> actionGenerator,
+		int minSize,
+		int maxSize,
+		ShrinkingDistance distance,
+		ActionSequenceCheckpoints<T> checkpoints,
+		Tuple2<Integer, T> resumeFrom
+	) {
 		this.actionGenerator = actionGenerator;
 		this.minSize = minSize;
 		this.maxSize = maxSize;
 		this.distance = distance;
+		this.checkpoints = checkpoints;
+		this.resumeFrom = resumeFrom;
 	}
 
 	@Override
 	public ActionSequence<T> value() {
 		// Cannot be recreated on each access because creation takes place on first access and must be preserved for shrinking
 		if (generatedSequence == null) {
-			generatedSequence = new SequentialActionSequence<>(actionGenerator, maxSize);
+			generatedSequence = new SequentialActionSequence<>(actionGenerator, maxSize, checkpoints, resumeFrom);
 		}
 		return generatedSequence;
 	}
@@ -45,8 +61,14 @@ class ShrinkableActionSequence<T> implements Shrinkable<ActionSequence<T>> {
 	}
 
 	private Stream<Shrinkable<ActionSequence<T>>> shrinkSequenceOfActions() {
+		List<Shrinkable<Action<T>>> actions = actionGenerator.generated();
+		if (actions.size() >= DeltaDebuggingListShrinker.MIN_LARGE_LIST_SIZE) {
+			return new DeltaDebuggingListShrinker()
+					   .shrink(actions, minSize)
+					   .map(this::createShrinkableActionSequence);
+		}
 		return new ComprehensiveSizeOfListShrinker()
-				   .shrink(actionGenerator.generated(), minSize)
+				   .shrink(actions, minSize)
 				   .map(this::createShrinkableActionSequence);
 	}
 
@@ -67,9 +89,18 @@ class ShrinkableActionSequence<T> implements Shrinkable<ActionSequence<T>> {
 	}
 
 	private ShrinkableActionSequence<T> createShrinkableActionSequence(List<Shrinkable<Action<T>>> list) {
-		ActionGenerator<T> newGenerator = new ShrinkablesActionGenerator<>(list);
 		ShrinkingDistance newDistance = ShrinkingDistance.forCollection(list);
-		return new ShrinkableActionSequence<>(newGenerator, minSize, list.size(), newDistance);
+		if (checkpoints == null) {
+			ActionGenerator<T> newGenerator = new ShrinkablesActionGenerator<>(list);
+			return new ShrinkableActionSequence<>(newGenerator, minSize, list.size(), newDistance);
+		}
+		Optional<Tuple2<Integer, T>> checkpoint = checkpoints.latestSharedCheckpoint(actionGenerator.generated(), list);
+		int alreadyRun = checkpoint.map(Tuple2::get1).orElse(0);
+		ActionGenerator<T> newGenerator = new ShrinkablesActionGenerator<>(list, alreadyRun);
+		return new ShrinkableActionSequence<>(
+			newGenerator, minSize, list.size(), newDistance,
+			checkpoints.forNextSequence(alreadyRun), checkpoint.orElse(null)
+		);
 	}
 
 	@Override
@@ -9,16 +9,30 @@ class ShrinkablesActionGenerator<T> implements ActionGenerator<T> {
 
 	private Iterator<Shrinkable<Action<T>>> iterator;
 	private List<Shrinkable<Action<T>>> shrinkables = new ArrayList<>();
+	private int rejectedActions = 0;
 
 	ShrinkablesActionGenerator(List<Shrinkable<Action<T>>> shrinkables) {
+		this(shrinkables, 0);
+	}
+
+	/**
+	 * @param alreadyRun number of actions at the start of {@code shrinkables} that are known to be run
+	 *                   and will therefore not be generated
+	 */
+	ShrinkablesActionGenerator(List<Shrinkable<Action<T>>> shrinkables, int alreadyRun) {
 		iterator = shrinkables.iterator();
+		for (int i = 0; i < alreadyRun; i++) {
+			this.shrinkables.add(iterator.next());
+		}
 	}
 
 	@Override
 	public Action<T> next(T model) {
 		while (iterator.hasNext()) {
 			Shrinkable<Action<T>> next = iterator.next();
+			// Actions drawn from action types also check their type's precondition
 			if (!next.value().precondition(model)) {
+				rejectedActions++;
 				continue;
 			}
 			shrinkables.add(next);
@@ -31,4 +45,9 @@ class ShrinkablesActionGenerator<T> implements ActionGenerator<T> {
 	public List<Shrinkable<Action<T>>> generated() {
 		return shrinkables;
 	}
+
+	@Override
+	public int rejectedActions() {
+		return rejectedActions;
+	}
 }
@@ -12,6 +12,11 @@ public class BigIntegerArbitraryProvider implements ArbitraryProvider {
 		return targetType.isAssignableFrom(BigInteger.class);
 	}
 
+	@Override
+	public Set<Class<?>> providedTypes() {
+		return Collections.singleton(BigInteger.class);
+	}
+
 	@Override
 	public Set<Arbitrary<?>> provideFor(TypeUsage targetType, SubtypeProvider subtypeProvider) {
 		return Collections.singleton(Arbitraries.bigIntegers());
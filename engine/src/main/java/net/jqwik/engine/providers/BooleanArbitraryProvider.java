@@ -11,6 +11,11 @@ public class BooleanArbitraryProvider implements ArbitraryProvider {
 		return targetType.isAssignableFrom(Boolean.class);
 	}
 
+	@Override
+	public Set<Class<?>> providedTypes() {
+		return Collections.singleton(Boolean.class);
+	}
+
 	@Override
 	public Set<Arbitrary<?>> provideFor(TypeUsage targetType, SubtypeProvider subtypeProvider) {
 		return Collections.singleton(Arbitraries.of(true, false));
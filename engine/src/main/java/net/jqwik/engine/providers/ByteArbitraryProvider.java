@@ -11,6 +11,11 @@ public class ByteArbitraryProvider implements ArbitraryProvider {
 		return targetType.isAssignableFrom(Byte.class);
 	}
 
+	@Override
+	public Set<Class<?>> providedTypes() {
+		return Collections.singleton(Byte.class);
+	}
+
 	@Override
 	public Set<Arbitrary<?>> provideFor(TypeUsage targetType, SubtypeProvider subtypeProvider) {
 		return Collections.singleton(Arbitraries.bytes());
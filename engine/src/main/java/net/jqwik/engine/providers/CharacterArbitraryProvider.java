@@ -11,6 +11,11 @@ public class CharacterArbitraryProvider implements ArbitraryProvider {
 		return targetType.isAssignableFrom(Character.class);
 	}
 
+	@Override
+	public Set<Class<?>> providedTypes() {
+		return Collections.singleton(Character.class);
+	}
+
 	@Override
 	public Set<Arbitrary<?>> provideFor(TypeUsage targetType, SubtypeProvider subtypeProvider) {
 		return Collections.singleton(Arbitraries.chars());
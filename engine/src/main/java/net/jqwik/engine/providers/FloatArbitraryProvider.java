@@ -11,6 +11,11 @@ public class FloatArbitraryProvider implements ArbitraryProvider {
 		return targetType.isAssignableFrom(Float.class);
 	}
 
+	@Override
+	public Set<Class<?>> providedTypes() {
+		return Collections.singleton(Float.class);
+	}
+
 	@Override
 	public Set<Arbitrary<?>> provideFor(TypeUsage targetType, SubtypeProvider subtypeProvider) {
 		return Collections.singleton(Arbitraries.floats());
@@ -11,6 +11,11 @@ public class LongArbitraryProvider implements ArbitraryProvider {
 		return targetType.isAssignableFrom(Long.class);
 	}
 
+	@Override
+	public Set<Class<?>> providedTypes() {
+		return Collections.singleton(Long.class);
+	}
+
 	@Override
 	public Set<Arbitrary<?>> provideFor(TypeUsage targetType, SubtypeProvider subtypeProvider) {
 		return Collections.singleton(Arbitraries.longs());
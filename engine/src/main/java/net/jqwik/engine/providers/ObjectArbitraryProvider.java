@@ -11,6 +11,11 @@ public class ObjectArbitraryProvider implements ArbitraryProvider {
 		return targetType.isOfType(Object.class);
 	}
 
+	@Override
+	public Set<Class<?>> providedTypes() {
+		return Collections.singleton(Object.class);
+	}
+
 	@Override
 	public int priority() {
 		return 100;
@@ -12,6 +12,11 @@ public class OptionalArbitraryProvider implements ArbitraryProvider {
 		return targetType.isOfType(Optional.class);
 	}
 
+	@Override
+	public Set<Class<?>> providedTypes() {
+		return Collections.singleton(Optional.class);
+	}
+
 	@Override
 	public Set<Arbitrary<?>> provideFor(TypeUsage targetType, SubtypeProvider subtypeProvider) {
 		TypeUsage innerType = targetType.getTypeArguments().get(0);
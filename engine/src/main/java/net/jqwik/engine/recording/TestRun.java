@@ -21,8 +21,8 @@ public class TestRun implements Serializable {
 		this.falsifiedSample = falsifiedSample;
 	}
 
-	boolean hasUniqueId(UniqueId uniqueId) {
-		return getUniqueId().equals(uniqueId);
+	String uniqueIdString() {
+		return uniqueIdString;
 	}
 
 	public boolean isNotSuccessful() {
@@ -11,6 +11,9 @@ public class TestRunData {
 
 	private final Collection<TestRun> data;
 
+	// Test runs are looked up for every discovered property
+	private Map<String, TestRun> testRunsByUniqueId = null;
+
 	public TestRunData(Collection<TestRun> data) {
 		this.data = data;
 	}
@@ -19,15 +22,14 @@ public class TestRunData {
 		this(new HashSet<>());
 	}
 
-	public void add(TestRun testRun) {
+	public synchronized void add(TestRun testRun) {
 		data.add(testRun);
+		testRunsByUniqueId = null;
 	}
 
 	public Optional<TestRun> byUniqueId(UniqueId uniqueId) {
 		try {
-			return data.stream()
-					   .filter(testRun -> testRun.hasUniqueId(uniqueId))
-					   .findFirst();
+			return Optional.ofNullable(testRunsByUniqueId().get(uniqueId.toString()));
 		} catch (Throwable t) {
 			// An exception during test run data read should not stop the test run.
 			// Most of the time it's an error due to format change which will go away
@@ -40,4 +42,13 @@ public class TestRunData {
 	public Stream<TestRun> allNonSuccessfulTests() {
 		return data.stream().filter(TestRun::isNotSuccessful);
 	}
+
+	private synchronized Map<String, TestRun> testRunsByUniqueId() {
+		if (testRunsByUniqueId == null) {
+			Map<String, TestRun> index = new HashMap<>();
+			data.forEach(testRun -> index.putIfAbsent(testRun.uniqueIdString(), testRun));
+			testRunsByUniqueId = index;
+		}
+		return testRunsByUniqueId;
+	}
 }
@@ -0,0 +1,56 @@
+package net.jqwik.engine.support;
+
+import java.time.*;
+import java.time.format.*;
+import java.util.regex.*;
+
+import net.jqwik.api.*;
+
+public class JqwikDurationSupport {
+
+	private static final Pattern NUMBER_WITH_UNIT = Pattern.compile("(\\d+)\\s*(ms|s|m|h)");
+
+	private JqwikDurationSupport() {
+	}
+
+	/**
+	 * Parse durations like "500ms", "30s", "5m", "1h" or ISO-8601 durations like "PT30S".
+	 */
+	public static Duration parse(String durationString) {
+		String trimmed = durationString.trim();
+		Matcher matcher = NUMBER_WITH_UNIT.matcher(trimmed);
+		if (matcher.matches()) {
+			long amount = Long.parseLong(matcher.group(1));
+			switch (matcher.group(2)) {
+				case "ms":
+					return Duration.ofMillis(amount);
+				case "s":
+					return Duration.ofSeconds(amount);
+				case "m":
+					return Duration.ofMinutes(amount);
+				default:
+					return Duration.ofHours(amount);
+			}
+		}
+		try {
+			Duration duration = Duration.parse(trimmed);
+			if (duration.isNegative()) {
+				throw new JqwikException(String.format("Duration [%s] must not be negative", durationString));
+			}
+			return duration;
+		} catch (DateTimeParseException parseException) {
+			String message = String.format(
+				"Cannot parse duration [%s]. Use e.g. \"500ms\", \"30s\", \"5m\", \"1h\" or ISO-8601 format like \"PT30S\".",
+				durationString
+			);
+			throw new JqwikException(message);
+		}
+	}
+
+	public static String displayString(Duration duration) {
+		if (duration.toMillis() % 1000 != 0) {
+			return duration.toMillis() + "ms";
+		}
+		return duration.getSeconds() + "s";
+	}
+}
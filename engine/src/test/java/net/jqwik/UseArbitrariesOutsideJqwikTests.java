@@ -1,12 +1,15 @@
 package net.jqwik;
 
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.*;
 
 import org.junit.jupiter.api.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
 import net.jqwik.api.providers.*;
+import net.jqwik.engine.execution.lifecycle.*;
 import net.jqwik.engine.properties.*;
 import net.jqwik.engine.providers.*;
 
@@ -91,6 +94,57 @@ class UseArbitrariesOutsideJqwikTests {
 		assertThat(Arrays.asList(i1, i2, i3, i4)).allMatch(i -> i == i1);
 	}
 
+	@Test
+	void samples() {
+		Arbitrary<Integer> ints = Arbitraries.integers().between(-10, 10);
+
+		List<Integer> samples = ints.samples(500);
+
+		assertThat(samples).hasSize(500);
+		assertThat(samples).allMatch(i -> i >= -10 && i <= 10);
+	}
+
+	@Test
+	void parallelSampleStream() {
+		Arbitrary<String> strings = Arbitraries.strings().alpha().ofMaxLength(10);
+
+		List<String> samples = strings.parallelSampleStream().limit(10000).collect(Collectors.toList());
+
+		assertThat(samples).hasSize(10000);
+		assertThat(samples).allMatch(s -> s.length() <= 10);
+		assertThat(new HashSet<>(samples).size()).isGreaterThan(5000);
+	}
+
+	@Test
+	void repeatedSamplingDoesNotAccumulateStores() {
+		Arbitrary<Integer> ints = Arbitraries.integers().between(0, 100).injectDuplicates(0.5);
+		int storesBefore = StoreRepository.getCurrent().numberOfStores();
+
+		for (int i = 0; i < 10; i++) {
+			assertThat(ints.parallelSampleStream().limit(10000).collect(Collectors.toList())).hasSize(10000);
+			assertThat(ints.samples(100)).hasSize(100);
+		}
+
+		assertThat(StoreRepository.getCurrent().numberOfStores()).isLessThanOrEqualTo(storesBefore);
+	}
+
+	@Test
+	void samplingFromSeveralThreads() throws Exception {
+		Arbitrary<List<Integer>> lists = Arbitraries.integers().between(0, 100).list().ofMaxSize(10);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<List<List<Integer>>>> futures = new ArrayList<>();
+			for (int i = 0; i < 8; i++) {
+				futures.add(executor.submit(() -> lists.samples(1000)));
+			}
+			for (Future<List<List<Integer>>> future : futures) {
+				assertThat(future.get()).hasSize(1000).allMatch(list -> list.size() <= 10);
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
 	private static class Person {
 		private final String firstName;
 		private final String lastName;
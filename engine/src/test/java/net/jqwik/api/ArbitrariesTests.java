@@ -417,6 +417,28 @@ class ArbitrariesTests {
 			assertThat(list).allMatch(i -> i >= 1 && i <= 20);
 		}
 
+		@Property(tries = 100)
+		void sizeOfRecursiveStructuresFollowsGenSize(@ForAll Random random) {
+			Arbitrary<List<Integer>> arbitrary = concatenatedLists();
+			assertAllGenerated(
+					arbitrary.generator(50),
+					random,
+					list -> list.size() <= 100
+			);
+		}
+
+		@Provide
+		Arbitrary<List<Integer>> concatenatedLists() {
+			return Arbitraries.lazyOf(
+					() -> Arbitraries.just(Collections.singletonList(1)),
+					() -> Combinators.combine(concatenatedLists(), concatenatedLists()).as((l1, l2) -> {
+						List<Integer> list = new ArrayList<>(l1);
+						list.addAll(l2);
+						return list;
+					})
+			);
+		}
+
 		@Provide
 		Arbitrary<List<Integer>> listWithIds() {
 			Arbitrary<Integer> uniqueId = Arbitraries.integers().between(1, 20);
@@ -499,6 +521,24 @@ class ArbitrariesTests {
 			assertThat(counts.get("c")).isLessThan(counts.get("d"));
 		}
 
+		@Property(tries = 10)
+		void sameValueInSeveralPairs(@ForAll Random random) {
+			Arbitrary<String> one = Arbitraries.frequency(
+					Tuple.of(10, "a"),
+					Tuple.of(1, "b"),
+					Tuple.of(10, "a")
+			);
+			Map<String, Long> counts = count(one.generator(1000, true), 1000, random);
+			assertThat(counts.get("a")).isGreaterThan(counts.get("b") * 5);
+		}
+
+		@Example
+		void frequenciesThatSumUpBeyondIntegerRange() {
+			assertThatThrownBy(() -> Arbitraries.frequency(Tuple.of(Integer.MAX_VALUE, "a"), Tuple.of(1, "b")))
+				.isInstanceOf(JqwikException.class)
+				.hasMessageContaining("sum of frequencies");
+		}
+
 		@Example
 		void noPositiveFrequencies() {
 			assertThatThrownBy(() -> Arbitraries.frequency(Tuple.of(0, "a"))).isInstanceOf(JqwikException.class);
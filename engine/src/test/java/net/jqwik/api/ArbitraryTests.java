@@ -457,6 +457,21 @@ class ArbitraryTests {
 			assertThat(noMoreDuplicates).hasSize(1);
 		}
 
+		@Example
+		void duplicatesAreNotGeneratedAgain() {
+			AtomicInteger countGenerated = new AtomicInteger(0);
+			Arbitrary<Integer> ints = Arbitraries.fromGenerator(random -> {
+				countGenerated.incrementAndGet();
+				return Shrinkable.unshrinkable(random.nextInt(2001) - 1000);
+			});
+			Arbitrary<Integer> intsWithDuplicates = ints.injectDuplicates(1.0);
+
+			List<Integer> listWithDuplicates = intsWithDuplicates.list().ofSize(50).sample();
+
+			assertThat(new HashSet<>(listWithDuplicates)).hasSize(1);
+			assertThat(countGenerated.get()).isEqualTo(1);
+		}
+
 		@Property
 		@StatisticsReport(StatisticsReport.StatisticsReportMode.OFF)
 		void duplicatesAreNotPreservedAcrossTries(@ForAll("duplicateInts") int anInt) {
@@ -106,6 +106,36 @@ class CombinatorsBuilderTests {
 		assertThat(value.name).hasSize(10);
 	}
 
+	@Example
+	void builderCanBeContinuedInSeveralWays(@ForAll Random random) {
+		Combinators.BuilderCombinator<PersonBuilder> withName =
+				Combinators
+						.withBuilder(PersonBuilder::new)
+						.use(Arbitraries.just("john")).in(PersonBuilder::withName);
+
+		Arbitrary<Person> withNameAndAge = withName.use(Arbitraries.just(10)).in(PersonBuilder::withAge).build(PersonBuilder::build);
+		Arbitrary<Person> withNameOnly = withName.build(PersonBuilder::build);
+
+		Person nameAndAge = generateFirst(withNameAndAge, random);
+		assertThat(nameAndAge.name).isEqualTo("john");
+		assertThat(nameAndAge.age).isEqualTo(10);
+
+		Person nameOnly = generateFirst(withNameOnly, random);
+		assertThat(nameOnly.name).isEqualTo("john");
+		assertThat(nameOnly.age).isEqualTo(PersonBuilder.DEFAULT_AGE);
+	}
+
+	@Example
+	void useManyArbitraries(@ForAll Random random) {
+		Combinators.BuilderCombinator<Integer> sum = Combinators.withBuilder(() -> 0);
+		for (int i = 0; i < 200; i++) {
+			sum = sum.use(Arbitraries.just(1)).in(Integer::sum);
+		}
+
+		int value = generateFirst(sum.build(), random);
+		assertThat(value).isEqualTo(200);
+	}
+
 	private static class Person {
 
 		private String name;
@@ -0,0 +1,74 @@
+package net.jqwik.api.configurators;
+
+import java.util.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.constraints.*;
+import net.jqwik.api.providers.*;
+import net.jqwik.engine.*;
+import net.jqwik.engine.facades.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ArbitraryConfiguratorBaseTests {
+
+	private final ArbitraryConfigurator lengthConfigurator = new ArbitraryConfiguratorBase() {
+		public Arbitrary<String> configure(Arbitrary<String> arbitrary, StringLength length) {
+			return arbitrary.map(s -> s + length.value());
+		}
+	};
+
+	@Example
+	void isApplicableToTargetTypeWithConfiguredAnnotation() {
+		assertThat(lengthConfigurator.isApplicableTo(typeOf("withLength"))).isTrue();
+		assertThat(lengthConfigurator.isApplicableTo(typeOf("withOtherAnnotation"))).isFalse();
+		assertThat(lengthConfigurator.isApplicableTo(typeOf("withoutAnnotation"))).isFalse();
+	}
+
+	@Example
+	void isNotApplicableIfTargetTypeIsNotAccepted() {
+		ArbitraryConfigurator configurator = new ArbitraryConfiguratorBase() {
+			@Override
+			protected boolean acceptTargetType(TypeUsage targetType) {
+				return targetType.isOfType(Integer.class);
+			}
+
+			public Arbitrary<String> configure(Arbitrary<String> arbitrary, StringLength length) {
+				return arbitrary;
+			}
+		};
+		assertThat(configurator.isApplicableTo(typeOf("withLength"))).isFalse();
+	}
+
+	@Example
+	void isAlwaysApplicableIfGeneralConfigureIsOverridden() {
+		ArbitraryConfigurator configurator = new ArbitraryConfiguratorBase() {
+			@Override
+			public <T> Arbitrary<T> configure(Arbitrary<T> arbitrary, TypeUsage targetType) {
+				return arbitrary;
+			}
+		};
+		assertThat(configurator.isApplicableTo(typeOf("withoutAnnotation"))).isTrue();
+	}
+
+	@Example
+	void configuresSeveralArbitrariesOfSameClass() {
+		TypeUsage targetType = typeOf("withLength");
+		Arbitrary<String> configured1 = lengthConfigurator.configure(Arbitraries.just("a"), targetType);
+		Arbitrary<String> configured2 = lengthConfigurator.configure(Arbitraries.just("b"), targetType);
+		assertThat(configured1.sample()).isEqualTo("a5");
+		assertThat(configured2.sample()).isEqualTo("b5");
+	}
+
+	private static TypeUsage typeOf(String methodName) {
+		return TypeUsageImpl.forParameter(TestHelper.getParametersFor(Params.class, methodName).get(0));
+	}
+
+	private static class Params {
+		void withLength(@ForAll @StringLength(5) String aString) {}
+
+		void withOtherAnnotation(@ForAll @WithNull String aString) {}
+
+		void withoutAnnotation(@ForAll String aString) {}
+	}
+}
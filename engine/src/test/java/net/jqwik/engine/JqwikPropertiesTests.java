@@ -1,5 +1,6 @@
 package net.jqwik.engine;
 
+import java.time.*;
 import java.util.*;
 
 import org.junit.platform.engine.*;
@@ -35,6 +36,7 @@ class JqwikPropertiesTests {
 		assertThat(properties.databasePath()).isEqualTo(".jqwik-database");
 
 		assertThat(properties.defaultTries()).isEqualTo(1000);
+		assertThat(properties.defaultMaxDuration()).isEqualTo(Duration.ZERO);
 		assertThat(properties.defaultMaxDiscardRatio()).isEqualTo(5);
 
 		assertThat(properties.useJunitPlatformReporter()).isEqualTo(false);
@@ -51,6 +53,8 @@ class JqwikPropertiesTests {
 
 		assertThat(properties.boundedShrinkingSeconds()).isEqualTo(10);
 
+		assertThat(properties.shrinkingTraceDirectory()).isNull();
+
 		assertThat(properties.fixedSeedMode()).isEqualTo(FixedSeedMode.ALLOW);
 	}
 }
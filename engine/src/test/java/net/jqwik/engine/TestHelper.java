@@ -2,6 +2,7 @@ package net.jqwik.engine;
 
 import java.lang.annotation.*;
 import java.lang.reflect.*;
+import java.time.*;
 import java.util.*;
 import java.util.function.*;
 
@@ -21,6 +22,7 @@ import static net.jqwik.engine.support.JqwikReflectionSupport.*;
 public class TestHelper {
 
 	public static final int DEFAULT_TRIES = 1000;
+	public static final Duration DEFAULT_MAX_DURATION = Duration.ZERO;
 	public static final int BOUNDED_SHRINKING_SECONDS = 10;
 	public static final int DEFAULT_MAX_DISCARD_RATIO = 5;
 	public static final AfterFailureMode DEFAULT_AFTER_FAILURE = AfterFailureMode.PREVIOUS_SEED;
@@ -32,12 +34,14 @@ public class TestHelper {
 	public static PropertyAttributesDefaults propertyAttributesDefaults() {
 		return PropertyAttributesDefaults.with(
 			DEFAULT_TRIES,
+			DEFAULT_MAX_DURATION,
 			DEFAULT_MAX_DISCARD_RATIO,
 			DEFAULT_AFTER_FAILURE,
 			DEFAULT_GENERATION,
 			DEFAULT_EDGE_CASES,
 			DEFAULT_SHRINKING,
 			BOUNDED_SHRINKING_SECONDS,
+			null,
 			DEFAULT_WHEN_FIXED_SEED
 		);
 	}
@@ -77,6 +81,7 @@ public class TestHelper {
 		Method method = getMethod(containerClass, methodName);
 		PropertyAttributes propertyAttributes = new DefaultPropertyAttributes(
 			tries,
+			null,
 			maxDiscardRatio,
 			shrinking,
 			null,
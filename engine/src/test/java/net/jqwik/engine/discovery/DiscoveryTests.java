@@ -50,6 +50,28 @@ class DiscoveryTests {
 		assertThat(count(engineDescriptor, isPropertyDescriptor)).isEqualTo(14);
 	}
 
+	@Example
+	void discoverFromPackageWithGroupsSelectedTwice() {
+		LauncherDiscoveryRequest packageRequest =
+			request()
+				.selectors(selectPackage("examples.packageWithNestedContainers"))
+				.build();
+		LauncherDiscoveryRequest packageAndClassRequest =
+			request()
+				.selectors(selectPackage("examples.packageWithNestedContainers"))
+				.selectors(selectPackage("examples.packageWithNestedContainers"))
+				.selectors(selectClass(TopLevelContainerWithGroups.InnerGroup.class))
+				.build();
+
+		TestDescriptor fromPackage = discoverTests(packageRequest);
+		TestDescriptor fromPackageAndClass = discoverTests(packageAndClassRequest);
+
+		assertThat(fromPackageAndClass.getDescendants()).hasSameSizeAs(fromPackage.getDescendants());
+		assertThat(count(fromPackageAndClass, isClassDescriptor)).isEqualTo(count(fromPackage, isClassDescriptor));
+		UniqueId innerGroupId = uniqueIdForClassContainer(TopLevelContainerWithGroups.class, TopLevelContainerWithGroups.InnerGroup.class);
+		assertThat(fromPackageAndClass.findByUniqueId(innerGroupId)).isPresent();
+	}
+
 	@Example
 	void discoverWithPackageNameFilter() {
 		LauncherDiscoveryRequest discoveryRequest =
@@ -60,6 +60,28 @@ class LifecycleRegistryTests {
 		assertThat(RememberCurrentDescriptorHook.currentDescriptor).isSameAs(container1);
 	}
 
+	@Example
+	void hookRegisteredAfterLookupIsFound() {
+		TestDescriptor container1 = forClass(Container1.class, "method1_1", "method1_2").build();
+		assertThat(registry.hasHook(container1, GlobalHook.class)).isFalse();
+
+		registry.registerLifecycleHook(container1, GlobalHook.class, NO_DESCENDANTS);
+		assertThat(registry.hasHook(container1, GlobalHook.class)).isTrue();
+	}
+
+	@Example
+	void appliesToIsEvaluatedOncePerDescriptorAndHookType() {
+		TestDescriptor container1 = forClass(Container1.class, "method1_1", "method1_2").build();
+		registry.registerLifecycleHook(container1, CountAppliesToHook.class, NO_DESCENDANTS);
+		CountAppliesToHook.countAppliesTo = 0;
+
+		registry.skipExecutionHook(container1);
+		registry.skipExecutionHook(container1);
+		registry.skipExecutionHook(container1);
+
+		assertThat(CountAppliesToHook.countAppliesTo).isEqualTo(1);
+	}
+
 	@Group
 	class UsingRegistrar {
 		@Example
@@ -149,6 +171,21 @@ class LifecycleRegistryTests {
 		}
 	}
 
+	static class CountAppliesToHook implements SkipExecutionHook {
+		static int countAppliesTo = 0;
+
+		@Override
+		public boolean appliesTo(Optional<AnnotatedElement> element) {
+			countAppliesTo++;
+			return true;
+		}
+
+		@Override
+		public SkipResult shouldBeSkipped(LifecycleContext context) {
+			return SkipResult.doNotSkip();
+		}
+	}
+
 	static class RememberCurrentDescriptorHook implements LifecycleHook {
 		static TestDescriptor currentDescriptor;
 
@@ -0,0 +1,50 @@
+package net.jqwik.engine.execution.reporting;
+
+import java.util.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.descriptor.*;
+import net.jqwik.engine.properties.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+import static net.jqwik.engine.TestHelper.*;
+
+class ExecutionResultReportTests {
+
+	@Example
+	void originalErrorIsReportedWhenShrinkingTookNoStep() {
+		PropertyMethodDescriptor descriptor =
+			createPropertyMethodDescriptor(ExecutionResultReportTests.class, "aProperty", "42", 10, 5, ShrinkingMode.BOUNDED);
+
+		List<Object> parameters = Collections.singletonList(42);
+		List<Shrinkable<Object>> shrinkables = Collections.singletonList(Shrinkable.unshrinkable(42));
+		FalsifiedSample originalSample = new FalsifiedSampleImpl(
+			parameters, shrinkables, Optional.of(new AssertionError("original error"))
+		);
+		AssertionError shrunkError = new AssertionError("shrunk error");
+		ShrunkFalsifiedSample shrunkSample = new ShrunkFalsifiedSampleImpl(
+			parameters, shrinkables, Optional.of(shrunkError), 0
+		);
+		PropertyCheckResult result = PropertyCheckResult.failed(
+			"property", "aProperty", 1, 1, "42",
+			GenerationMode.RANDOMIZED, EdgeCasesMode.MIXIN, 0, 0,
+			originalSample, shrunkSample, shrunkError
+		);
+
+		String report = ExecutionResultReport.from(descriptor, result);
+
+		assertThat(report).containsSubsequence(
+			"shrunk error",
+			"Shrunk Sample (0 steps)",
+			"Original Sample",
+			"Original Error",
+			"original error"
+		);
+	}
+
+	@Property
+	void aProperty(@ForAll int anInt) {
+	}
+}
@@ -331,6 +331,49 @@ class SampleReportingTests {
 				);
 			}
 
+			@Example
+			void hugeCollectionsAreTruncated() {
+				List<Integer> list = IntStream.range(0, 1_000_000).boxed().collect(Collectors.toList());
+				ValueReport report = ValueReport.of(list);
+
+				Assertions.assertThat(report.singleLineReport())
+						  .startsWith("[0, 1, 2, ")
+						  .endsWith(", 999, <999000 more elements>]");
+
+				report.report(lineReporter, 0, "");
+				assertThat(lineReporter.lines).endsWith(
+						"  <999000 more elements>",
+						"]"
+				);
+			}
+
+			@Example
+			void nestedHugeCollectionsShareElementsLimit() {
+				List<Integer> inner = IntStream.range(0, 1000).boxed().collect(Collectors.toList());
+				List<List<Integer>> outer = IntStream.range(0, 1000).mapToObj(i -> inner).collect(Collectors.toList());
+				ValueReport report = ValueReport.of(outer);
+
+				Assertions.assertThat(report.singleLineReport())
+						  .startsWith("[[0, 1, 2, ")
+						  .endsWith(", 998, <1 more elements>], <999 more elements>]");
+			}
+
+			@Example
+			void deeplyNestedCollectionsAreTruncated() {
+				List<Object> nested = new ArrayList<>();
+				List<Object> current = nested;
+				for (int i = 0; i < 100; i++) {
+					List<Object> inner = new ArrayList<>();
+					current.add(inner);
+					current = inner;
+				}
+				ValueReport report = ValueReport.of(nested);
+
+				String expectedOpening = String.join("", java.util.Collections.nCopies(ValueReport.MAX_REPORTED_DEPTH, "["));
+				String expectedClosing = String.join("", java.util.Collections.nCopies(ValueReport.MAX_REPORTED_DEPTH, "]"));
+				Assertions.assertThat(report.singleLineReport()).isEqualTo(expectedOpening + "[...]" + expectedClosing);
+			}
+
 		}
 
 		@Group
@@ -417,6 +460,26 @@ class SampleReportingTests {
 				);
 			}
 
+			@Example
+			void hugeMapsAreTruncated() {
+				Map<Integer, Integer> map = new LinkedHashMap<>();
+				for (int i = 0; i < 2000; i++) {
+					map.put(i, i);
+				}
+				ValueReport report = ValueReport.of(map);
+
+				Assertions.assertThat(report.singleLineReport())
+						  .startsWith("{0=0, 1=1, ")
+						  .endsWith(", 999=999, <1000 more entries>}");
+
+				report.report(lineReporter, 0, "");
+				assertThat(lineReporter.lines).endsWith(
+						"  999=999, ",
+						"  <1000 more entries>",
+						"}"
+				);
+			}
+
 		}
 
 		@Group
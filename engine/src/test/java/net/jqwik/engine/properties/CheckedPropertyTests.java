@@ -9,6 +9,7 @@ import org.opentest4j.*;
 import net.jqwik.api.*;
 import net.jqwik.api.constraints.*;
 import net.jqwik.api.lifecycle.*;
+import net.jqwik.api.statistics.*;
 import net.jqwik.engine.*;
 import net.jqwik.engine.descriptor.*;
 import net.jqwik.engine.execution.*;
@@ -454,6 +455,48 @@ class CheckedPropertyTests {
 
 		}
 
+		@Group
+		class GuidedProperty {
+
+			@Example
+			@Label("works with GenerationMode.GUIDED")
+			void runWithGenerationModeGuided() {
+				List<Integer> allGeneratedValues = new ArrayList<>();
+				CheckedFunction collectParameters = params -> {
+					int value = (int) params.get(0);
+					Statistics.label("guidance").collect(value % 10);
+					return allGeneratedValues.add(value);
+				};
+				CheckedProperty checkedProperty = createCheckedProperty(
+					"exhaustiveProperty", collectParameters, getParametersForMethod("exhaustiveProperty"),
+					p -> Collections.singleton(Arbitraries.integers().between(1, 1000)),
+					Optional.empty(),
+					aConfig().withTries(50).withGeneration(GUIDED).build(),
+					lifecycleContextForMethod("exhaustiveProperty", int.class)
+				);
+
+				PropertyCheckResult check = checkedProperty.check(new Reporting[0]);
+				assertThat(check.generation()).isEqualTo(GenerationMode.GUIDED);
+				assertThat(check.countTries()).isEqualTo(50);
+				assertThat(check.checkStatus()).isEqualTo(SUCCESSFUL);
+				assertThat(allGeneratedValues).hasSize(50);
+			}
+
+			@Example
+			@Label("fails if it has @FromData")
+			void failIfItHasData() {
+				CheckedProperty checkedProperty = createCheckedProperty(
+					"dataDrivenProperty", params -> true, getParametersForMethod("dataDrivenProperty"),
+					p -> Collections.emptySet(),
+					Optional.of(Table.of(Tuple.of(1, "1"))),
+					aConfig().withGeneration(GUIDED).build(),
+					lifecycleContextForMethod("dataDrivenProperty", int.class, String.class)
+				);
+
+				assertThatThrownBy(() -> checkedProperty.check(new Reporting[0])).isInstanceOf(JqwikException.class);
+			}
+		}
+
 		@Group
 		class WithSample {
 
@@ -0,0 +1,143 @@
+package net.jqwik.engine.properties;
+
+import java.io.*;
+import java.math.*;
+import java.nio.file.*;
+import java.time.*;
+import java.util.*;
+
+import net.jqwik.api.*;
+
+import static java.util.Arrays.*;
+import static org.assertj.core.api.Assertions.*;
+
+class CsvTableTests {
+
+	@Example
+	void readsAndConvertsRows() throws IOException {
+		Path csvFile = createCsvFile(
+			"# index,result,valid,amount",
+			"1,\"1\",true,1.5",
+			"",
+			"3,Fizz,false,-2.25"
+		);
+		try {
+			Iterable<Tuple> table = Table.fromCsv(csvFile, int.class, String.class, Boolean.class, BigDecimal.class);
+
+			assertThat(table).containsExactly(
+				Tuple.of(1, "1", true, new BigDecimal("1.5")),
+				Tuple.of(3, "Fizz", false, new BigDecimal("-2.25"))
+			);
+		} finally {
+			Files.delete(csvFile);
+		}
+	}
+
+	@Example
+	void quotedFieldsCanContainCommasAndQuotes() throws IOException {
+		Path csvFile = createCsvFile("\"a,b\",\"say \"\"hi\"\"\",MONDAY");
+		try {
+			Iterable<Tuple> table = Table.fromCsv(csvFile, String.class, String.class, DayOfWeek.class);
+
+			assertThat(table).containsExactly(Tuple.of("a,b", "say \"hi\"", DayOfWeek.MONDAY));
+		} finally {
+			Files.delete(csvFile);
+		}
+	}
+
+	@Example
+	void eachIteratorReadsFileAgain() throws IOException {
+		Path csvFile = createCsvFile("1", "2");
+		try {
+			Iterable<Tuple> table = Table.fromCsv(csvFile, long.class);
+
+			assertThat(table).containsExactly(Tuple.of(1L), Tuple.of(2L));
+			assertThat(table).containsExactly(Tuple.of(1L), Tuple.of(2L));
+		} finally {
+			Files.delete(csvFile);
+		}
+	}
+
+	@Example
+	void whitespaceAroundUnquotedFieldsIsIgnored() throws IOException {
+		Path csvFile = createCsvFile("1, 2 ,  a b\t");
+		try {
+			Iterable<Tuple> table = Table.fromCsv(csvFile, int.class, int.class, String.class);
+
+			assertThat(table).containsExactly(Tuple.of(1, 2, "a b"));
+		} finally {
+			Files.delete(csvFile);
+		}
+	}
+
+	@Example
+	void whitespaceWithinQuotesIsKept() throws IOException {
+		Path csvFile = createCsvFile(" \" x \" , \"\" ");
+		try {
+			Iterable<Tuple> table = Table.fromCsv(csvFile, String.class, String.class);
+
+			assertThat(table).containsExactly(Tuple.of(" x ", ""));
+		} finally {
+			Files.delete(csvFile);
+		}
+	}
+
+	@Example
+	void wrongNumberOfFields() throws Exception {
+		Path csvFile = createCsvFile("1,2", "1,2,3");
+		try {
+			Iterator<Tuple> iterator = Table.fromCsv(csvFile, int.class, int.class).iterator();
+			try {
+				iterator.next();
+
+				assertThatThrownBy(iterator::next).isInstanceOf(JqwikException.class).hasMessageContaining("Line 2");
+			} finally {
+				((AutoCloseable) iterator).close();
+			}
+		} finally {
+			Files.delete(csvFile);
+		}
+	}
+
+	@Example
+	void fieldCannotBeConverted() throws Exception {
+		Path csvFile = createCsvFile("x");
+		try {
+			Iterator<Tuple> iterator = Table.fromCsv(csvFile, int.class).iterator();
+			try {
+				assertThatThrownBy(iterator::next).isInstanceOf(JqwikException.class).hasMessageContaining("<x>");
+			} finally {
+				((AutoCloseable) iterator).close();
+			}
+		} finally {
+			Files.delete(csvFile);
+		}
+	}
+
+	@Example
+	void iteratorThatIsNotUsedUpCanBeClosed() throws Exception {
+		Path csvFile = createCsvFile("1", "2");
+		try {
+			Iterator<Tuple> iterator = Table.fromCsv(csvFile, int.class).iterator();
+			assertThat(iterator.next()).isEqualTo(Tuple.of(1));
+
+			assertThat(iterator).isInstanceOf(AutoCloseable.class);
+			((AutoCloseable) iterator).close();
+			assertThat(iterator.hasNext()).isFalse();
+		} finally {
+			Files.delete(csvFile);
+		}
+	}
+
+	@Example
+	void unsupportedColumnType() {
+		assertThatThrownBy(() -> Table.fromCsv(Paths.get("any.csv"), Object.class))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private Path createCsvFile(String... lines) throws IOException {
+		Path csvFile = Files.createTempFile("jqwik-data", ".csv");
+		Files.write(csvFile, asList(lines));
+		return csvFile;
+	}
+}
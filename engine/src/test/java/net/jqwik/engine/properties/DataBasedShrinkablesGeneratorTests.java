@@ -6,6 +6,7 @@ import java.util.stream.*;
 import net.jqwik.api.*;
 import net.jqwik.engine.*;
 import net.jqwik.engine.descriptor.*;
+import net.jqwik.engine.execution.lifecycle.*;
 import net.jqwik.engine.support.*;
 
 import static org.assertj.core.api.Assertions.*;
@@ -46,6 +47,32 @@ class DataBasedShrinkablesGeneratorTests {
 		assertThatThrownBy(shrinkablesGenerator::next).isInstanceOf(IncompatibleDataException.class);
 	}
 
+	@Example
+	void valueTypeOfLaterTupleDoesNotFit() {
+		Iterable<Tuple.Tuple2<String, Object>> data = Table.of(Tuple.of("a", 1), Tuple.of("b", "2"));
+		DataBasedShrinkablesGenerator shrinkablesGenerator = generator("stringAndInt", data);
+
+		assertThat(nextValues(shrinkablesGenerator)).containsExactly("a", 1);
+		assertThatThrownBy(shrinkablesGenerator::next).isInstanceOf(IncompatibleDataException.class);
+	}
+
+	@Example
+	void closeableIteratorIsClosedWhenPropertyIsFinished() {
+		CloseableData data = new CloseableData(Table.of(Tuple.of("a", 1), Tuple.of("b", 2)));
+		PropertyMethodDescriptor methodDescriptor = createDescriptor("stringAndInt");
+		List<MethodParameter> parameters = TestHelper.getParameters(methodDescriptor);
+
+		CurrentTestDescriptor.runWithDescriptor(methodDescriptor, () -> {
+			DataBasedShrinkablesGenerator shrinkablesGenerator = new DataBasedShrinkablesGenerator(parameters, data);
+			assertThat(nextValues(shrinkablesGenerator)).containsExactly("a", 1);
+		});
+		assertThat(data.closed).isFalse();
+
+		StoreRepository.getCurrent().finishProperty(methodDescriptor);
+		assertThat(data.closed).isTrue();
+		StoreRepository.getCurrent().finishScope(methodDescriptor);
+	}
+
 	private List<Object> nextValues(DataBasedShrinkablesGenerator shrinkablesGenerator) {
 		return values(shrinkablesGenerator.next());
 	}
@@ -65,6 +92,43 @@ class DataBasedShrinkablesGeneratorTests {
 		return TestHelper.createPropertyMethodDescriptor(MyProperties.class, methodName, "0", 1000, 5, ShrinkingMode.FULL);
 	}
 
+	private static class CloseableData implements Iterable<Tuple> {
+		private final Iterable<? extends Tuple> rows;
+		private boolean closed = false;
+
+		private CloseableData(Iterable<? extends Tuple> rows) {
+			this.rows = rows;
+		}
+
+		@Override
+		public Iterator<Tuple> iterator() {
+			return new CloseableIterator(rows.iterator());
+		}
+
+		private class CloseableIterator implements Iterator<Tuple>, AutoCloseable {
+			private final Iterator<? extends Tuple> rowIterator;
+
+			private CloseableIterator(Iterator<? extends Tuple> rowIterator) {
+				this.rowIterator = rowIterator;
+			}
+
+			@Override
+			public boolean hasNext() {
+				return rowIterator.hasNext();
+			}
+
+			@Override
+			public Tuple next() {
+				return rowIterator.next();
+			}
+
+			@Override
+			public void close() {
+				closed = true;
+			}
+		}
+	}
+
 	private static class MyProperties {
 
 		public void stringAndInt(@ForAll String aString, @ForAll int anInt) {}
@@ -106,6 +106,47 @@ class GenericPropertyTests {
 			assertThat(result.shrunkSample()).isEmpty();
 		}
 
+		@Example
+		void stopTriesWhenMaxDurationIsReached() {
+			ForAllSpy forAllFunction = new ForAllSpy(trie -> {
+				try {
+					Thread.sleep(10);
+				} catch (InterruptedException ignore) {
+				}
+				return true;
+			}, exactlyOneInteger);
+
+			Arbitrary<Object> arbitrary = Arbitraries.of(1, 2, 3, 4, 5);
+			ParametersGenerator shrinkablesGenerator = randomizedShrinkablesGenerator(arbitrary);
+
+			PropertyConfiguration configuration = aConfig().withTries(1000).withMaxDuration("100ms").build();
+			GenericProperty property =
+				new GenericProperty("time budgeted property", configuration, shrinkablesGenerator, forAllFunction, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.SUCCESSFUL);
+			assertThat(result.maxDurationReached()).isTrue();
+			assertThat(result.countTries()).isEqualTo(forAllFunction.countCalls());
+			assertThat(result.countTries()).isBetween(1, 999);
+		}
+
+		@Example
+		void maxDurationNotReached() {
+			ForAllSpy forAllFunction = new ForAllSpy(trie -> true, exactlyOneInteger);
+
+			Arbitrary<Object> arbitrary = Arbitraries.of(1, 2, 3, 4, 5);
+			ParametersGenerator shrinkablesGenerator = randomizedShrinkablesGenerator(arbitrary);
+
+			PropertyConfiguration configuration = aConfig().withTries(10).withMaxDuration("1h").build();
+			GenericProperty property =
+				new GenericProperty("time budgeted property", configuration, shrinkablesGenerator, forAllFunction, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.SUCCESSFUL);
+			assertThat(result.maxDurationReached()).isFalse();
+			assertThat(result.countTries()).isEqualTo(10);
+		}
+
 		@Example
 		void dontShrinkIfShrinkingModeIsOff() {
 			int failingTry = 5;
@@ -0,0 +1,141 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.domains.*;
+import net.jqwik.api.stateful.*;
+import net.jqwik.api.statistics.*;
+import net.jqwik.engine.*;
+import net.jqwik.engine.descriptor.*;
+import net.jqwik.engine.support.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class GuidedShrinkablesGeneratorTests {
+
+	@Example
+	void samplesOfTriesWithNewStatisticsValuesAreKept(@ForAll Random random) {
+		GuidedShrinkablesGenerator generator = createGenerator(random);
+		generator.next();
+		assertThat(generator.corpusSize()).isEqualTo(0);
+
+		Statistics.label("feedback").collect("first");
+		generator.next();
+		assertThat(generator.corpusSize()).isEqualTo(1);
+
+		Statistics.label("feedback").collect("first");
+		generator.next();
+		assertThat(generator.corpusSize()).isEqualTo(1);
+
+		Statistics.label("feedback").collect("second");
+		generator.next();
+		assertThat(generator.corpusSize()).isEqualTo(2);
+	}
+
+	@Example
+	void interestingSamplesAreMutated(@ForAll Random random) {
+		GuidedShrinkablesGenerator generator = createGenerator(random);
+		List<List<Shrinkable<Object>>> samples = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			Statistics.label("feedback").collect(i);
+			samples.add(generator.next());
+		}
+
+		long mutants = samples.stream().filter(sample -> sharesShrinkableWithOtherSample(sample, samples)).count();
+		assertThat(mutants).isGreaterThan(0);
+	}
+
+	@Example
+	void corpusSizeIsLimited(@ForAll Random random) {
+		GuidedShrinkablesGenerator generator = createGenerator(random);
+		for (int i = 0; i <= GuidedShrinkablesGenerator.MAX_CORPUS_SIZE + 10; i++) {
+			Statistics.label("feedback").collect(i);
+			generator.next();
+		}
+		assertThat(generator.corpusSize()).isEqualTo(GuidedShrinkablesGenerator.MAX_CORPUS_SIZE);
+	}
+
+	@Example
+	@SuppressWarnings("unchecked")
+	void actionSequencesAreNeverReused(@ForAll Random random) {
+		GuidedShrinkablesGenerator generator = createGenerator(random, "sequenceParameter");
+		for (int i = 0; i < 100; i++) {
+			Statistics.label("feedback").collect(i);
+			ActionSequence<String> sequence = (ActionSequence<String>) generator.next().get(0).value();
+			assertThat(sequence.runState()).isEqualTo(ActionSequence.RunState.NOT_RUN);
+			sequence.run("");
+		}
+		assertThat(generator.corpusSize()).isGreaterThan(0);
+	}
+
+	@Example
+	@SuppressWarnings("unchecked")
+	void actionSequencesWithinOtherTypesAreNeverReused(@ForAll Random random) {
+		GuidedShrinkablesGenerator generator = createGenerator(random, "listOfSequencesParameter");
+		for (int i = 0; i < 100; i++) {
+			Statistics.label("feedback").collect(i);
+			List<ActionSequence<String>> sequences = (List<ActionSequence<String>>) generator.next().get(0).value();
+			for (ActionSequence<String> sequence : sequences) {
+				assertThat(sequence.runState()).isEqualTo(ActionSequence.RunState.NOT_RUN);
+				sequence.run("");
+			}
+		}
+	}
+
+	@Example
+	void otherParametersOfSamplesWithActionSequencesAreReused(@ForAll Random random) {
+		GuidedShrinkablesGenerator generator = createGenerator(random, "sequenceParameter");
+		List<List<Shrinkable<Object>>> samples = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			Statistics.label("feedback").collect(i);
+			samples.add(generator.next());
+		}
+
+		long mutants = samples.stream().filter(sample -> sharesShrinkableWithOtherSample(sample, samples)).count();
+		assertThat(mutants).isGreaterThan(0);
+	}
+
+	private boolean sharesShrinkableWithOtherSample(List<Shrinkable<Object>> sample, List<List<Shrinkable<Object>>> samples) {
+		return samples.stream()
+					  .filter(other -> other != sample)
+					  .anyMatch(other -> other.get(0) == sample.get(0) || other.get(1) == sample.get(1));
+	}
+
+	private GuidedShrinkablesGenerator createGenerator(Random random) {
+		return createGenerator(random, "simpleParameters");
+	}
+
+	private GuidedShrinkablesGenerator createGenerator(Random random, String methodName) {
+		PropertyMethodArbitraryResolver arbitraryResolver = new PropertyMethodArbitraryResolver(
+			new MyProperties(),
+			DomainContext.global()
+		);
+		PropertyMethodDescriptor methodDescriptor =
+			TestHelper.createPropertyMethodDescriptor(MyProperties.class, methodName, "0", 1000, 5, ShrinkingMode.FULL);
+		List<MethodParameter> parameters = TestHelper.getParameters(methodDescriptor);
+
+		RandomizedShrinkablesGenerator randomizedGenerator =
+			RandomizedShrinkablesGenerator.forParameters(parameters, arbitraryResolver, random, 1000, EdgeCasesMode.NONE);
+		return new GuidedShrinkablesGenerator(parameters, randomizedGenerator, random);
+	}
+
+	private static class MyProperties {
+
+		public void simpleParameters(@ForAll String aString, @ForAll int anInt) {}
+
+		public void sequenceParameter(@ForAll("appendA") ActionSequence<String> sequence, @ForAll int anInt) {}
+
+		public void listOfSequencesParameter(@ForAll("listOfAppendA") List<ActionSequence<String>> sequences) {}
+
+		@Provide
+		Arbitrary<ActionSequence<String>> appendA() {
+			return Arbitraries.sequences(Arbitraries.just(model -> model + "a"));
+		}
+
+		@Provide
+		Arbitrary<List<ActionSequence<String>>> listOfAppendA() {
+			return appendA().list().ofMinSize(1).ofMaxSize(3);
+		}
+	}
+}
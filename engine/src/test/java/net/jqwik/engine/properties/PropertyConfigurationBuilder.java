@@ -18,6 +18,7 @@ class PropertyConfigurationBuilder {
 	private String previousSeed = null;
 	private List<Object> falsifiedSample = null;
 	private Integer tries = null;
+	private String maxDuration = null;
 	private Integer maxDiscardRatio = null;
 	private ShrinkingMode shrinkingMode = null;
 	private GenerationMode generationMode = null;
@@ -45,6 +46,11 @@ class PropertyConfigurationBuilder {
 		return this;
 	}
 
+	PropertyConfigurationBuilder withMaxDuration(String maxDuration) {
+		this.maxDuration = maxDuration;
+		return this;
+	}
+
 	PropertyConfigurationBuilder withMaxDiscardRatio(int maxDiscardRatio) {
 		this.maxDiscardRatio = maxDiscardRatio;
 		return this;
@@ -78,6 +84,7 @@ class PropertyConfigurationBuilder {
 	PropertyConfiguration build() {
 		PropertyAttributes propertyAttributes = new DefaultPropertyAttributes(
 			tries,
+			maxDuration,
 			maxDiscardRatio,
 			shrinkingMode,
 			generationMode,
@@ -2,10 +2,12 @@ package net.jqwik.engine.properties;
 
 import java.lang.annotation.*;
 import java.util.*;
+import java.util.function.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.Tuple.*;
 import net.jqwik.api.arbitraries.*;
+import net.jqwik.api.configurators.*;
 import net.jqwik.api.constraints.*;
 import net.jqwik.api.domains.*;
 import net.jqwik.api.providers.*;
@@ -150,6 +152,137 @@ class PropertyMethodArbitraryResolverTests {
 			assertThat(resolver.forParameter(parameter)).containsOnly(firstFit, secondFit);
 		}
 
+		@Example
+		void configuratorsThatAreNotApplicableAreSkipped() {
+			List<ArbitraryConfigurator> usedConfigurators = new ArrayList<>();
+			ArbitraryConfigurator notApplicable = new ArbitraryConfigurator() {
+				@Override
+				public <T> Arbitrary<T> configure(Arbitrary<T> arbitrary, TypeUsage targetType) {
+					usedConfigurators.add(this);
+					return arbitrary;
+				}
+
+				@Override
+				public boolean isApplicableTo(TypeUsage targetType) {
+					return false;
+				}
+			};
+			ArbitraryConfigurator applicable = new ArbitraryConfigurator() {
+				@Override
+				public <T> Arbitrary<T> configure(Arbitrary<T> arbitrary, TypeUsage targetType) {
+					usedConfigurators.add(this);
+					return arbitrary;
+				}
+			};
+
+			PropertyMethodArbitraryResolver resolver = new PropertyMethodArbitraryResolver(
+				new DefaultParams(),
+				new RegisteredArbitraryResolver(Collections.singletonList(createProvider(String.class, Arbitraries.strings()))),
+				new RegisteredArbitraryConfigurer(Arrays.asList(notApplicable, applicable))
+			);
+			MethodParameter parameter = getParameter(DefaultParams.class, "stringOfLength5");
+			resolver.forParameter(parameter);
+			resolver.forParameter(parameter);
+			assertThat(usedConfigurators).containsExactly(applicable, applicable);
+		}
+
+		@Example
+		void resolvedArbitrariesAreSharedWithinSameDomainContext() {
+			List<TypeUsage> requestedTypes = new ArrayList<>();
+			ArbitraryProvider countingProvider = countingStringProvider(requestedTypes, () -> Arbitraries.strings());
+			DomainContext domainContext = domainContextWith(countingProvider);
+			MethodParameter parameter = getParameter(DefaultParams.class, "stringOfLength5");
+
+			Set<Arbitrary<?>> first = new PropertyMethodArbitraryResolver(new DefaultParams(), domainContext).forParameter(parameter);
+			Set<Arbitrary<?>> second = new PropertyMethodArbitraryResolver(new DefaultParams(), domainContext).forParameter(parameter);
+			assertThat(second).isEqualTo(first);
+			assertThat(requestedTypes).hasSize(1);
+
+			DomainContext otherContext = domainContextWith(countingProvider, createProvider(int.class, Arbitraries.just(1)));
+			Set<Arbitrary<?>> third = new PropertyMethodArbitraryResolver(new DefaultParams(), otherContext).forParameter(parameter);
+			assertThat(third).doesNotContainAnyElementsOf(first);
+			assertThat(requestedTypes).hasSize(2);
+		}
+
+		@Example
+		void resolvedArbitrariesAreNotSharedAfterRegisteringProvider() {
+			List<TypeUsage> requestedTypes = new ArrayList<>();
+			ArbitraryProvider countingProvider = countingStringProvider(requestedTypes, () -> Arbitraries.strings());
+			MutableDomainContext domainContext = new MutableDomainContext();
+			domainContext.registerProvider(countingProvider);
+			MethodParameter parameter = getParameter(DefaultParams.class, "stringOfLength5");
+
+			Set<Arbitrary<?>> first = new PropertyMethodArbitraryResolver(new DefaultParams(), domainContext).forParameter(parameter);
+			domainContext.registerProvider(createProvider(int.class, Arbitraries.just(1)));
+			Set<Arbitrary<?>> second = new PropertyMethodArbitraryResolver(new DefaultParams(), domainContext).forParameter(parameter);
+
+			assertThat(second).doesNotContainAnyElementsOf(first);
+			assertThat(requestedTypes).hasSize(2);
+		}
+
+		@Example
+		void arbitrariesThatAccessStoresAreNotShared() {
+			List<TypeUsage> requestedTypes = new ArrayList<>();
+			ArbitraryProvider countingProvider = countingStringProvider(
+				requestedTypes,
+				() -> Arbitraries.lazyOf(() -> Arbitraries.strings())
+			);
+			DomainContext domainContext = domainContextWith(countingProvider);
+			MethodParameter parameter = getParameter(DefaultParams.class, "stringOfLength5");
+
+			new PropertyMethodArbitraryResolver(new DefaultParams(), domainContext).forParameter(parameter);
+			new PropertyMethodArbitraryResolver(new DefaultParams(), domainContext).forParameter(parameter);
+			assertThat(requestedTypes).hasSize(2);
+		}
+
+		@Example
+		void parametersOfSameTypeInOnePropertyGetIndependentArbitraries() {
+			List<TypeUsage> requestedTypes = new ArrayList<>();
+			ArbitraryProvider countingProvider = countingStringProvider(requestedTypes, () -> Arbitraries.strings());
+			DomainContext domainContext = domainContextWith(countingProvider);
+			List<MethodParameter> parameters = TestHelper.getParametersFor(DefaultParams.class, "twoStrings");
+
+			PropertyMethodArbitraryResolver resolver = new PropertyMethodArbitraryResolver(new DefaultParams(), domainContext);
+			Set<Arbitrary<?>> first = resolver.forParameter(parameters.get(0));
+			Set<Arbitrary<?>> second = resolver.forParameter(parameters.get(1));
+			assertThat(second).doesNotContainAnyElementsOf(first);
+
+			Set<Arbitrary<?>> fromOtherProperty =
+				new PropertyMethodArbitraryResolver(new DefaultParams(), domainContext).forParameter(parameters.get(0));
+			assertThat(fromOtherProperty).isEqualTo(first);
+			assertThat(requestedTypes).hasSize(2);
+		}
+
+		private ArbitraryProvider countingStringProvider(List<TypeUsage> requestedTypes, Supplier<Arbitrary<String>> arbitrary) {
+			return new ArbitraryProvider() {
+				@Override
+				public boolean canProvideFor(TypeUsage targetType) {
+					return targetType.isOfType(String.class);
+				}
+
+				@Override
+				public Set<Arbitrary<?>> provideFor(TypeUsage targetType, SubtypeProvider subtypeProvider) {
+					requestedTypes.add(targetType);
+					return Collections.singleton(arbitrary.get());
+				}
+			};
+		}
+
+		private DomainContext domainContextWith(ArbitraryProvider... providers) {
+			MutableDomainContext domainContext = new MutableDomainContext();
+			for (ArbitraryProvider provider : providers) {
+				domainContext.registerProvider(provider);
+			}
+			return domainContext;
+		}
+
+		private class MutableDomainContext extends AbstractDomainContextBase {
+			@Override
+			protected void registerProvider(ArbitraryProvider provider) {
+				super.registerProvider(provider);
+			}
+		}
+
 		private ArbitraryProvider createProvider(Class<?> targetClass, Arbitrary<?>... arbitraries) {
 			return new ArbitraryProvider() {
 				@Override
@@ -184,6 +317,11 @@ class PropertyMethodArbitraryResolverTests {
 			boolean stringOfLength5(@ForAll @StringLength(5) String aString) {
 				return true;
 			}
+
+			@Property
+			boolean twoStrings(@ForAll String first, @ForAll String second) {
+				return true;
+			}
 		}
 
 	}
@@ -199,6 +337,14 @@ class PropertyMethodArbitraryResolverTests {
 			assertThat(arbitraries.iterator().next()).isInstanceOf(LongArbitrary.class);
 		}
 
+		@Example
+		void arbitrariesFromProviderMethodsAreNotShared() {
+			MethodParameter parameter = getParameter(WithNamedProviders.class, "longFromBoxedType");
+			Set<Arbitrary<?>> first = getResolver(WithNamedProviders.class).forParameter(parameter);
+			Set<Arbitrary<?>> second = getResolver(WithNamedProviders.class).forParameter(parameter);
+			assertThat(second).doesNotContainAnyElementsOf(first);
+		}
+
 		@Example
 		void providerMethodCanHaveTypeUsageParameter() {
 			PropertyMethodArbitraryResolver provider = getResolver(WithNamedProviders.class);
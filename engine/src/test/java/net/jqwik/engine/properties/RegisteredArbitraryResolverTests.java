@@ -99,6 +99,47 @@ class RegisteredArbitraryResolverTests {
 		assertThat(arbitraries).containsOnly(highestPriorityArbitrary1, highestPriorityArbitrary2, highestPriorityArbitrary3);
 	}
 
+	@Example
+	void providerWithDeclaredTypesIsOnlyAskedForAssignableTypes() {
+		Arbitrary<?> defaultIntegerArbitrary = new DefaultIntegerArbitrary();
+		List<TypeUsage> askedFor = new ArrayList<>();
+		ArbitraryProvider provider = new ArbitraryProvider() {
+			@Override
+			public boolean canProvideFor(TypeUsage targetType) {
+				askedFor.add(targetType);
+				return targetType.isAssignableFrom(Integer.class);
+			}
+
+			@Override
+			public Set<Class<?>> providedTypes() {
+				return Collections.singleton(Integer.class);
+			}
+
+			@Override
+			public Set<Arbitrary<?>> provideFor(TypeUsage targetType, SubtypeProvider subtypeProvider) {
+				return Collections.singleton(defaultIntegerArbitrary);
+			}
+		};
+		RegisteredArbitraryResolver resolver = new RegisteredArbitraryResolver(Collections.singletonList(provider));
+
+		assertThat(resolver.resolve(TypeUsage.of(String.class), noSubtypes())).isEmpty();
+		assertThat(resolver.resolve(TypeUsage.of(Number.class), noSubtypes())).containsOnly(defaultIntegerArbitrary);
+		assertThat(resolver.resolve(TypeUsage.of(int.class), noSubtypes())).containsOnly(defaultIntegerArbitrary);
+		assertThat(askedFor).containsExactly(TypeUsage.of(Number.class), TypeUsage.of(int.class));
+	}
+
+	@Example
+	void providerWithoutDeclaredTypesIsAskedForAllTypes() {
+		Arbitrary<?> defaultIntegerArbitrary = new DefaultIntegerArbitrary();
+		List<ArbitraryProvider> providers = asList(
+			createProvider(TypeUsage.of(Integer.class), 0, defaultIntegerArbitrary)
+		);
+		RegisteredArbitraryResolver resolver = new RegisteredArbitraryResolver(providers);
+
+		assertThat(resolver.resolve(TypeUsage.of(Integer.class), noSubtypes())).containsOnly(defaultIntegerArbitrary);
+		assertThat(resolver.resolve(TypeUsage.of(Comparable.class), noSubtypes())).containsOnly(defaultIntegerArbitrary);
+	}
+
 	private SubtypeProvider noSubtypes() {
 		return ignore -> Collections.emptySet();
 	}
@@ -31,6 +31,17 @@ class RandomGeneratorsTests {
 				  .isInstanceOf(JqwikException.class);
 	}
 
+	@Example
+	void largeListsWithUniqueFeatureOfElements(@ForAll Random random) {
+		RandomGenerator<Integer> integerGenerator = RandomGenerators.integers(0, 1_000_000);
+		Set<FeatureExtractor<Integer>> uniqueLastDigits = Collections.singleton(i -> i % 1000);
+		RandomGenerator<List<Integer>> generator = RandomGenerators.list(integerGenerator, 500, 500, uniqueLastDigits, 1000);
+
+		List<Integer> list = generator.next(random).value();
+		assertThat(list).hasSize(500);
+		assertThat(list.stream().map(i -> i % 1000).distinct()).hasSize(500);
+	}
+
 	@Group
 	class IntegralGeneration {
 
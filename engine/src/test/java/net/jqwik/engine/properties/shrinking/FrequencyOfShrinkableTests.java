@@ -0,0 +1,59 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.math.*;
+import java.util.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.*;
+import net.jqwik.testing.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+import static net.jqwik.testing.ShrinkingSupport.*;
+
+class FrequencyOfShrinkableTests {
+
+	private final List<Integer> generatedAlternatives = new ArrayList<>();
+
+	private final IntFunction<Shrinkable<Integer>> generateAlternative = index -> {
+		generatedAlternatives.add(index);
+		BigInteger min = BigInteger.valueOf(index * 10);
+		BigInteger max = BigInteger.valueOf(index * 10 + 9);
+		return new ShrinkableBigInteger(min.add(BigInteger.valueOf(5)), Range.of(min, max), min)
+				   .map(BigInteger::intValueExact);
+	};
+
+	@Example
+	void creation() {
+		Shrinkable<Integer> shrinkable = new FrequencyOfShrinkable<>(2, generateAlternative.apply(2), generateAlternative);
+		assertThat(shrinkable.value()).isEqualTo(25);
+		assertThat(shrinkable.distance()).isEqualTo(ShrinkingDistance.of(2, 5));
+	}
+
+	@Example
+	void accessingValueAndDistanceDoesNotGenerateAgain() {
+		Shrinkable<Integer> shrinkable = new FrequencyOfShrinkable<>(2, generateAlternative.apply(2), generateAlternative);
+		generatedAlternatives.clear();
+
+		shrinkable.value();
+		shrinkable.distance();
+		shrinkable.value();
+
+		assertThat(generatedAlternatives).isEmpty();
+	}
+
+	@Example
+	void shrinkingToEarlierAlternative() {
+		Shrinkable<Integer> shrinkable = new FrequencyOfShrinkable<>(2, generateAlternative.apply(2), generateAlternative);
+		Integer shrunkValue = shrink(shrinkable, (TestingFalsifier<Integer>) ignore -> false, null);
+		assertThat(shrunkValue).isEqualTo(0);
+	}
+
+	@Example
+	void shrinkingWithinChosenAlternative() {
+		Shrinkable<Integer> shrinkable = new FrequencyOfShrinkable<>(2, generateAlternative.apply(2), generateAlternative);
+		Integer shrunkValue = shrink(shrinkable, (TestingFalsifier<Integer>) value -> value < 23, null);
+		assertThat(shrunkValue).isEqualTo(23);
+	}
+}
@@ -1,6 +1,9 @@
 package net.jqwik.engine.properties.shrinking;
 
+import java.io.*;
+import java.nio.file.*;
 import java.util.*;
+import java.util.concurrent.atomic.*;
 import java.util.function.*;
 import java.util.stream.*;
 
@@ -164,6 +167,31 @@ class PropertyShrinkerTests {
 			// TODO: Test that logging shrinking bound reached has happened
 		}
 
+		@Example
+		@SuppressLogging
+		void boundedShrinkingStopsFalsifierCallsAfterBreakOff() throws InterruptedException {
+			List<Shrinkable<Object>> shrinkables = asList(new ShrinkableTypesForTest.SlowShrinkable(20).asGeneric());
+			PropertyShrinker shrinker = createShrinker(toFalsifiedSample(shrinkables, null), ShrinkingMode.BOUNDED, 1);
+
+			AtomicBoolean shrinkingReturned = new AtomicBoolean(false);
+			AtomicInteger callsAfterShrinkingReturned = new AtomicInteger(0);
+			AtomicReference<Thread> shrinkingThread = new AtomicReference<>();
+			Falsifier<List<Object>> countingFalsifier = params -> {
+				shrinkingThread.set(Thread.currentThread());
+				if (shrinkingReturned.get()) {
+					callsAfterShrinkingReturned.incrementAndGet();
+				}
+				return TryExecutionResult.falsified(null);
+			};
+			shrinker.shrink(countingFalsifier);
+			shrinkingReturned.set(true);
+
+			shrinkingThread.get().join(10000);
+			assertThat(shrinkingThread.get().isAlive()).isFalse();
+			assertThat(callsAfterShrinkingReturned.get()).isEqualTo(0);
+			assertThat(shrinker.statistics().timedOut()).isTrue();
+		}
+
 		@Example
 		@SuppressLogging
 		void currentTestDescriptorIsAvailableInBoundedShrinking() {
@@ -309,6 +337,64 @@ class PropertyShrinkerTests {
 
 	}
 
+	@Group
+	class ShrinkingInstrumentation {
+
+		@Example
+		void stepsAndFalsifierCallsAreCounted() {
+			List<Shrinkable<Object>> shrinkables = listOfOneStepShrinkables(10);
+			PropertyShrinker shrinker = createShrinker(toFalsifiedSample(shrinkables, null), ShrinkingMode.FULL);
+
+			Falsifier<List<Object>> falsifier = paramFalsifier((Integer i) -> i <= 1);
+			ShrunkFalsifiedSample sample = shrinker.shrink(falsifier);
+
+			ShrinkingStatistics statistics = shrinker.statistics();
+			assertThat(statistics.countSteps()).isEqualTo(sample.countShrinkingSteps());
+			assertThat(statistics.countFalsifierCalls()).isGreaterThan(statistics.countSteps());
+			assertThat(statistics.countCandidates())
+				.isEqualTo(statistics.countFalsifierCalls() + statistics.countCacheHits() + statistics.countCandidatesFilteredByDistance());
+			assertThat(statistics.countRounds()).isGreaterThanOrEqualTo(2);
+			assertThat(statistics.millisPerShrinker()).containsOnlyKeys(
+				"OneAfterTheOtherParameterShrinker",
+				"PairwiseParameterShrinker"
+			);
+			assertThat(statistics.timedOut()).isFalse();
+		}
+
+		@Example
+		void invalidCandidatesAreCounted() {
+			List<Shrinkable<Object>> shrinkables = listOfOneStepShrinkables(10);
+			PropertyShrinker shrinker = createShrinker(toFalsifiedSample(shrinkables, null), ShrinkingMode.FULL);
+
+			Falsifier<List<Object>> falsifier = params -> {
+				int value = (int) params.get(0);
+				return value % 2 == 0 ? TryExecutionResult.invalid() : TryExecutionResult.falsified(null);
+			};
+			shrinker.shrink(falsifier);
+
+			assertThat(shrinker.statistics().countInvalidCandidates()).isGreaterThan(0);
+		}
+
+		@Example
+		void traceFileIsWritten() throws IOException {
+			List<Shrinkable<Object>> shrinkables = listOfOneStepShrinkables(5);
+			PropertyShrinker shrinker = createShrinker(toFalsifiedSample(shrinkables, null), ShrinkingMode.FULL);
+			shrinker.shrink(ignore -> TryExecutionResult.falsified(null));
+
+			Path traceFile = Files.createTempFile("jqwik-shrinking", ".csv");
+			try {
+				shrinker.statistics().writeTrace(traceFile);
+				List<String> lines = Files.readAllLines(traceFile);
+				assertThat(lines.get(0)).isEqualTo("elapsed-ms,event,shrinker,duration-ms,steps,distance");
+				assertThat(lines.stream().filter(line -> line.contains(",step,"))).hasSize(5);
+				assertThat(lines.stream().filter(line -> line.contains(",round,"))).isNotEmpty();
+				assertThat(lines.get(lines.size() - 1)).contains(",end,");
+			} finally {
+				Files.delete(traceFile);
+			}
+		}
+	}
+
 	@Group
 	class ErrorTypeDifferentiation {
 
@@ -51,6 +51,18 @@ class ShrinkableListTests {
 			assertThat(shrunkValue).hasSize(2);
 		}
 
+		@Example
+		void largeListsRemoveChunksFromTheMiddle() {
+			List<Shrinkable<Integer>> elementShrinkables =
+					IntStream.range(0, 2000).mapToObj(Shrinkable::unshrinkable).collect(Collectors.toList());
+			Shrinkable<List<Integer>> shrinkable = new ShrinkableList<>(elementShrinkables, 0, 2000);
+
+			TestingFalsifier<List<Integer>> falsifier = integers -> !integers.contains(300) || !integers.contains(1700);
+			List<Integer> shrunkValue = shrink(shrinkable, falsifier, null);
+			assertThat(shrunkValue).contains(300, 1700);
+			assertThat(shrunkValue).hasSizeLessThan(DeltaDebuggingListShrinker.MIN_LARGE_LIST_SIZE);
+		}
+
 		@Example
 		void downToOneElement() {
 			Shrinkable<List<Integer>> shrinkable = createShrinkableList(0, 1, 2);
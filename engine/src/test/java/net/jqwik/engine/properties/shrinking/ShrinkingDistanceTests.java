@@ -1,6 +1,7 @@
 package net.jqwik.engine.properties.shrinking;
 
 import java.util.*;
+import java.util.stream.*;
 
 import net.jqwik.api.*;
 import net.jqwik.engine.properties.shrinking.ShrinkableTypesForTest.*;
@@ -105,6 +106,57 @@ class ShrinkingDistanceTests {
 			ShrinkingDistance distance = ShrinkingDistance.forCollection(elements);
 			assertThat(distance).isEqualByComparingTo(ShrinkingDistance.of(2, 3, 6));
 		}
+
+		@Example
+		void sumOfElementsDoesNotOverflow() {
+			Collection<Shrinkable<Integer>> elements = asList(
+				withDistance(Long.MAX_VALUE),
+				withDistance(1)
+			);
+			ShrinkingDistance distance = ShrinkingDistance.forCollection(elements);
+			assertThat(distance).isEqualByComparingTo(ShrinkingDistance.of(2, Long.MAX_VALUE));
+		}
+
+		private Shrinkable<Integer> withDistance(long distance) {
+			return new Shrinkable<Integer>() {
+				@Override
+				public Integer value() {
+					return 0;
+				}
+
+				@Override
+				public Stream<Shrinkable<Integer>> shrink() {
+					return Stream.empty();
+				}
+
+				@Override
+				public ShrinkingDistance distance() {
+					return ShrinkingDistance.of(distance);
+				}
+			};
+		}
+	}
+
+	@Group
+	@Label("combine()")
+	class Combine {
+
+		@Example
+		void noShrinkables() {
+			ShrinkingDistance distance = ShrinkingDistance.combine(Collections.emptyList());
+			assertThat(distance.size()).isEqualTo(0);
+		}
+
+		@Example
+		void distancesOfAllPartsAreAppended() {
+			List<Shrinkable<String>> parts = asList(
+				Shrinkable.unshrinkable("hello"), // [0]
+				ShrinkableStringTests.createShrinkableString("bcd", 0) // [3, 6]
+			);
+			ShrinkingDistance distance = ShrinkingDistance.combine(parts);
+			assertThat(distance).isEqualByComparingTo(ShrinkingDistance.of(0, 3, 6));
+			assertThat(distance.size()).isEqualTo(3);
+		}
 	}
 
 	@Group
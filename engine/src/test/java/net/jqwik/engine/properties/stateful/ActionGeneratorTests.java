@@ -66,6 +66,7 @@ class ActionGeneratorTests {
 			assertThat(actionGenerator.next(42)).isEqualTo(PLUS_2);
 
 			assertThat(actionGenerator.generated()).hasSize(4);
+			assertThat(actionGenerator.rejectedActions()).isEqualTo(1);
 		}
 
 		@Example
@@ -79,6 +80,114 @@ class ActionGeneratorTests {
 		}
 	}
 
+	@Group
+	class FromActionTypes {
+
+		@Example
+		void onlyDrawsFromTypesWithSucceedingPrecondition(@ForAll Random random) {
+			List<ActionType<Integer>> actionTypes = Arrays.asList(
+				ActionType.of(Arbitraries.just(plus1())).when(model -> model < 10),
+				ActionType.of(Arbitraries.just(failedPrecondition())).when(model -> model >= 10)
+			);
+
+			ActionTypesActionGenerator<Integer> actionGenerator = new ActionTypesActionGenerator<>(actionTypes, 1000, random);
+
+			for (int i = 0; i < 100; i++) {
+				assertThat(actionGenerator.next(9)).isEqualTo(PLUS_1);
+			}
+			assertThat(actionGenerator.generated()).hasSize(100);
+			assertThat(actionGenerator.rejectedActions()).isEqualTo(0);
+		}
+
+		@Example
+		void choosesTypesByWeight(@ForAll Random random) {
+			List<ActionType<Integer>> actionTypes = Arrays.asList(
+				ActionType.of(Arbitraries.just(plus1())).withWeight(9),
+				ActionType.of(Arbitraries.just(plus2()))
+			);
+
+			ActionTypesActionGenerator<Integer> actionGenerator = new ActionTypesActionGenerator<>(actionTypes, 1000, random);
+
+			int plus1Count = 0;
+			for (int i = 0; i < 1000; i++) {
+				if (actionGenerator.next(42) == PLUS_1) {
+					plus1Count++;
+				}
+			}
+			assertThat(plus1Count).isBetween(800, 980);
+		}
+
+		@Example
+		void countsRejectedActionsOfPossibleTypes(@ForAll Random random) {
+			List<ActionType<Integer>> actionTypes = Collections.singletonList(
+				ActionType.of(new OrderedArbitraryForTesting<>(failedPrecondition(), plus1()))
+			);
+
+			ActionTypesActionGenerator<Integer> actionGenerator = new ActionTypesActionGenerator<>(actionTypes, 1000, random);
+
+			assertThat(actionGenerator.next(42)).isEqualTo(PLUS_1);
+			assertThat(actionGenerator.next(42)).isEqualTo(PLUS_1);
+			assertThat(actionGenerator.rejectedActions()).isEqualTo(2);
+		}
+
+		@Example
+		void failsWhenNoTypeIsPossible(@ForAll Random random) {
+			List<ActionType<Integer>> actionTypes = Collections.singletonList(
+				ActionType.of(Arbitraries.just(plus1())).when(model -> model < 10)
+			);
+
+			ActionTypesActionGenerator<Integer> actionGenerator = new ActionTypesActionGenerator<>(actionTypes, 1000, random);
+
+			assertThatThrownBy(() -> actionGenerator.next(10)).isInstanceOf(NoSuchElementException.class);
+			assertThat(actionGenerator.generated()).hasSize(0);
+		}
+
+		@Example
+		void shrinkingKeepsPreconditionOfActionType(@ForAll Random random) {
+			List<ActionType<Integer>> actionTypes = Arrays.asList(
+				ActionType.of(Arbitraries.just(plus1())).when(model -> model < 10),
+				ActionType.of(Arbitraries.just(plus2())).when(model -> model >= 10)
+			);
+
+			ActionTypesActionGenerator<Integer> actionGenerator = new ActionTypesActionGenerator<>(actionTypes, 1000, random);
+			assertThat(actionGenerator.next(9)).isEqualTo(PLUS_1);
+			assertThat(actionGenerator.next(10)).isEqualTo(PLUS_2);
+
+			ShrinkablesActionGenerator<Integer> shrinkingGenerator = new ShrinkablesActionGenerator<>(actionGenerator.generated());
+			shrinkingGenerator.next(10);
+			assertThat(shrinkingGenerator.generated()).containsExactly(actionGenerator.generated().get(1));
+			assertThat(shrinkingGenerator.rejectedActions()).isEqualTo(1);
+		}
+
+		@Example
+		void sequencesRunFromShrunkActionsReportOriginalActions(@ForAll Random random) {
+			List<ActionType<Integer>> actionTypes = Collections.singletonList(
+				ActionType.of(Arbitraries.just(plus1())).when(model -> model < 10)
+			);
+			ActionTypesActionGenerator<Integer> actionGenerator = new ActionTypesActionGenerator<>(actionTypes, 1000, random);
+			actionGenerator.next(0);
+			actionGenerator.next(2);
+
+			ShrinkablesActionGenerator<Integer> shrinkingGenerator = new ShrinkablesActionGenerator<>(actionGenerator.generated());
+			SequentialActionSequence<Integer> sequence = new SequentialActionSequence<>(shrinkingGenerator, 2);
+			assertThat(sequence.run(0)).isEqualTo(4);
+
+			assertThat(sequence.runActions()).containsExactly(PLUS_1, PLUS_1);
+			assertThat(sequence.toString()).doesNotContain("GuardedAction");
+		}
+
+		@Example
+		void rejectsWeightsThatSumUpBeyondIntegerRange(@ForAll Random random) {
+			List<ActionType<Integer>> actionTypes = Arrays.asList(
+				ActionType.of(Arbitraries.just(plus1())).withWeight(Integer.MAX_VALUE),
+				ActionType.of(Arbitraries.just(plus2()))
+			);
+
+			assertThatThrownBy(() -> new ActionTypesActionGenerator<>(actionTypes, 1000, random))
+				.isInstanceOf(IllegalArgumentException.class);
+		}
+	}
+
 	@Group
 	class FromShrinkables {
 		@Example
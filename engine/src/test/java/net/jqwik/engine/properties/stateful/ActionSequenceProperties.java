@@ -51,6 +51,21 @@ class ActionSequenceProperties {
 		return Arbitraries.sequences(Arbitraries.oneOf(addX(), addZ()));
 	}
 
+	@Property
+	void actionTypesAreOnlyDrawnFromWhenPossible(@ForAll("xOrRemoveFromTypes") ActionSequence<String> actions) {
+		String result = actions.run("");
+
+		Assertions.assertThat(actions.runActions()).hasSize(50);
+		Assertions.assertThat(actions.rejectedActions()).isEqualTo(0);
+		Assertions.assertThat(result.length()).isLessThanOrEqualTo(50);
+	}
+
+	@Provide
+	Arbitrary<ActionSequence<String>> xOrRemoveFromTypes() {
+		ActionType<String> removeLast = ActionType.of(removeLast()).when(model -> !model.isEmpty()).withWeight(3);
+		return Arbitraries.sequences(ActionType.of(addX()), removeLast).ofSize(50);
+	}
+
 	@Example
 	void errorsAreWrappedInAssertionFailedError(@ForAll Random random) {
 		Arbitrary<ActionSequence<String>> arbitrary = Arbitraries.sequences(error());
@@ -80,6 +95,10 @@ class ActionSequenceProperties {
 		});
 	}
 
+	private Arbitrary<Action<String>> removeLast() {
+		return Arbitraries.just(model -> model.substring(0, model.length() - 1));
+	}
+
 	private Arbitrary<Action<String>> error() {
 		return Arbitraries.just(model -> {
 			throw new AssertionError("test");
@@ -1,9 +1,11 @@
 package net.jqwik.engine.properties.stateful;
 
 import java.util.*;
+import java.util.concurrent.atomic.*;
 import java.util.function.*;
 
 import net.jqwik.api.*;
+import net.jqwik.api.Tuple.*;
 import net.jqwik.api.constraints.*;
 import net.jqwik.api.lifecycle.*;
 import net.jqwik.api.stateful.*;
@@ -64,6 +66,26 @@ class ActionSequenceShrinkingTests {
 		assertThat(shrunkValue.run("")).isEqualTo("x");
 	}
 
+	@Example
+	void sequencesWithinCombinedValuesAreShrunkToSingleAction(@ForAll Random random) {
+		Arbitrary<Tuple2<ActionSequence<String>, Integer>> arbitrary = Combinators.combine(
+			Arbitraries.sequences(addX()).ofMaxSize(50),
+			Arbitraries.integers().between(0, 10)
+		).as(Tuple::of);
+		Shrinkable<Tuple2<ActionSequence<String>, Integer>> shrinkable = arbitrary.generator(1000, true).next(random);
+		shrinkable.value().get1().run(""); // to setup sequence
+
+		TestingFalsifier<Tuple2<ActionSequence<String>, Integer>> falsifier = tuple -> {
+			tuple.get1().run("");
+			return false;
+		};
+
+		Tuple2<ActionSequence<String>, Integer> shrunkValue = shrink(shrinkable, falsifier, null);
+
+		assertThat(shrunkValue.get1().runActions()).hasSize(1);
+		assertThat(shrunkValue.get2()).isEqualTo(0);
+	}
+
 	@Example
 	void dontShrinkUnderMinSize(@ForAll Random random) {
 		Arbitrary<ActionSequence<String>> arbitrary = Arbitraries.sequences(addX()).ofMinSize(3);
@@ -97,6 +119,61 @@ class ActionSequenceShrinkingTests {
 		assertThat(shrunkValue.runActions().get(0).run("")).isIn("aa", "AA");
 	}
 
+	@Example
+	void longSequencesAreShrunkToMinimalFailingActions(@ForAll Random random) {
+		Arbitrary<Action<List<String>>> addXOrY = Arbitraries.of("x", "y").map(s -> model -> {
+			model.add(s);
+			return model;
+		});
+		Arbitrary<ActionSequence<List<String>>> arbitrary = Arbitraries.sequences(addXOrY).ofMaxSize(1000);
+		Shrinkable<ActionSequence<List<String>>> shrinkable = arbitrary.generator(1000).next(random);
+		shrinkable.value().run(new ArrayList<>()); // to setup sequence
+
+		TestingFalsifier<ActionSequence<List<String>>> falsifier = seq -> {
+			List<String> model = seq.run(new ArrayList<>());
+			return Collections.frequency(model, "y") < 2;
+		};
+
+		ActionSequence<List<String>> shrunkValue = shrink(shrinkable, falsifier, null);
+
+		assertThat(shrunkValue.runActions()).hasSize(2);
+		assertThat(shrunkValue.finalModel()).containsExactly("y", "y");
+	}
+
+	@Example
+	void shrinkingWithModelSnapshotsResumesFromSharedActions(@ForAll Random random) {
+		AtomicInteger actionRuns = new AtomicInteger(0);
+		Arbitrary<Action<List<String>>> addXOrY = Arbitraries.of("x", "y").map(s -> model -> {
+			actionRuns.incrementAndGet();
+			model.add(s);
+			return model;
+		});
+		ActionSequenceArbitrary<List<String>> sequences = Arbitraries.sequences(addXOrY).ofMaxSize(50);
+		long seed = random.nextLong();
+
+		TestingFalsifier<ActionSequence<List<String>>> falsifier = seq -> {
+			List<String> model = seq.run(new ArrayList<>());
+			return Collections.frequency(model, "y") < 3;
+		};
+
+		Shrinkable<ActionSequence<List<String>>> replaying = sequences.generator(1000).next(new Random(seed));
+		replaying.value().run(new ArrayList<>());
+		actionRuns.set(0);
+		ActionSequence<List<String>> shrunkByReplaying = shrink(replaying, falsifier, null);
+		int actionRunsReplaying = actionRuns.get();
+
+		Shrinkable<ActionSequence<List<String>>> resuming =
+			sequences.withModelSnapshots(ArrayList::new).generator(1000).next(new Random(seed));
+		resuming.value().run(new ArrayList<>());
+		actionRuns.set(0);
+		ActionSequence<List<String>> shrunkByResuming = shrink(resuming, falsifier, null);
+		int actionRunsResuming = actionRuns.get();
+
+		assertThat(shrunkByResuming.runActions()).hasSize(3);
+		assertThat(shrunkByResuming.finalModel()).isEqualTo(shrunkByReplaying.finalModel());
+		assertThat(actionRunsResuming).isLessThan(actionRunsReplaying);
+	}
+
 	private Arbitrary<Action<String>> addX() {
 		return Arbitraries.just(new Action<String>() {
 			@Override
@@ -274,6 +274,11 @@ class SequentialActionSequenceTests {
 				// Not used here
 				return null;
 			}
+
+			@Override
+			public int rejectedActions() {
+				return 0;
+			}
 		};
 		return new SequentialActionSequence<>(actionGenerator, size);
 	}
@@ -172,6 +172,23 @@ class StatisticsCollectionTests {
 			assertThat(collector.count("one")).isEqualTo(1);
 		}
 
+		@Example
+		void manyDistinctValues() {
+			StatisticsCollectorImpl collector = new StatisticsCollectorImpl("a label");
+
+			for (int i = 0; i < 10000; i++) {
+				collector.collect(i);
+				collector.collect(i % 2 == 0 ? i : -i);
+			}
+
+			assertThat(collector.countAllCollects()).isEqualTo(20000);
+			assertThat(collector.count(42)).isEqualTo(2);
+			assertThat(collector.count(43)).isEqualTo(1);
+			assertThat(collector.count(-43)).isEqualTo(1);
+			assertThat(collector.statisticsEntries()).hasSize(15000);
+			assertThat(collector.statisticsEntries().get(0).count()).isEqualTo(2);
+		}
+
 		@Example
 		void unseenValuesHaveZeroCount() {
 			StatisticsCollectorImpl collector = new StatisticsCollectorImpl("a label");
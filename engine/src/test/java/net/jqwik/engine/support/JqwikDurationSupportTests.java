@@ -0,0 +1,37 @@
+package net.jqwik.engine.support;
+
+import java.time.*;
+
+import net.jqwik.api.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class JqwikDurationSupportTests {
+
+	@Example
+	void parseNumberWithUnit() {
+		assertThat(JqwikDurationSupport.parse("500ms")).isEqualTo(Duration.ofMillis(500));
+		assertThat(JqwikDurationSupport.parse("30s")).isEqualTo(Duration.ofSeconds(30));
+		assertThat(JqwikDurationSupport.parse(" 5m ")).isEqualTo(Duration.ofMinutes(5));
+		assertThat(JqwikDurationSupport.parse("2h")).isEqualTo(Duration.ofHours(2));
+	}
+
+	@Example
+	void parseIsoDuration() {
+		assertThat(JqwikDurationSupport.parse("PT30S")).isEqualTo(Duration.ofSeconds(30));
+		assertThat(JqwikDurationSupport.parse("PT1M30S")).isEqualTo(Duration.ofSeconds(90));
+	}
+
+	@Example
+	void illegalDurations() {
+		assertThatThrownBy(() -> JqwikDurationSupport.parse("30 seconds")).isInstanceOf(JqwikException.class);
+		assertThatThrownBy(() -> JqwikDurationSupport.parse("-PT1S")).isInstanceOf(JqwikException.class);
+		assertThatThrownBy(() -> JqwikDurationSupport.parse("")).isInstanceOf(JqwikException.class);
+	}
+
+	@Example
+	void displayString() {
+		assertThat(JqwikDurationSupport.displayString(Duration.ofSeconds(30))).isEqualTo("30s");
+		assertThat(JqwikDurationSupport.displayString(Duration.ofMillis(1500))).isEqualTo("1500ms");
+	}
+}
@@ -1,13 +1,14 @@
 package net.jqwik.time.internal.properties.arbitraries;
 
+import java.math.*;
 import java.time.*;
 import java.time.temporal.*;
+import java.util.*;
 
 import org.apiguardian.api.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
-import net.jqwik.time.api.*;
 import net.jqwik.time.api.arbitraries.*;
 import net.jqwik.time.internal.properties.arbitraries.valueRanges.*;
 
@@ -38,39 +39,46 @@ public class DefaultLocalDateTimeArbitrary extends ArbitraryDecorator<LocalDateT
 		LocalDateTime effectiveMin = effectiveMin();
 		LocalDateTime effectiveMax = effectiveMax(effectiveMin);
 
-		LocalDateArbitrary dates = Dates.dates();
-		TimeArbitraries times = generateTimeArbitraries(effectiveMin, effectiveMax, ofPrecision);
-
-		dates = dates.atTheEarliest(effectiveMin.toLocalDate());
-		dates = dates.atTheLatest(effectiveMax.toLocalDate());
-
-		dates = setDateParams(dates);
-
-		LocalDate effectiveMinDate = effectiveMin.toLocalDate();
-		LocalDate effectiveMaxDate = effectiveMax.toLocalDate();
-
-		return dates.flatMap(date -> timesByDate(times, date, effectiveMinDate, effectiveMaxDate)
-										 .map(time -> LocalDateTime.of(date, time)));
+		LocalDateTimeIndex allowedDateTimes = allowedDateTimes(effectiveMin, effectiveMax);
+		BigInteger size = allowedDateTimes.size();
+		if (size.signum() == 0) {
+			throw new IllegalArgumentException("These min/max configurations cannot be used together: No values are possible.");
+		}
+		BigInteger maxIndex = size.subtract(BigInteger.ONE);
+		List<BigInteger> innerEdgeCases = allowedDateTimes.innerEdgeCaseIndices();
+
+		if (allowedDateTimes.fitsInLong()) {
+			Long[] longInnerEdgeCases = innerEdgeCases.stream().map(BigInteger::longValue).toArray(Long[]::new);
+			return Arbitraries.longs()
+							  .withDistribution(RandomDistribution.uniform())
+							  .between(0L, maxIndex.longValue())
+							  .edgeCases(config -> config.includeOnly(0L, maxIndex.longValue()).add(longInnerEdgeCases))
+							  .map(allowedDateTimes::dateTimeAt);
+		}
 
-	}
+		return Arbitraries.bigIntegers()
+						  .withDistribution(RandomDistribution.uniform())
+						  .between(BigInteger.ZERO, maxIndex)
+						  .edgeCases(config -> config.includeOnly(BigInteger.ZERO, maxIndex).add(innerEdgeCases.toArray(new BigInteger[0])))
+						  .map(allowedDateTimes::dateTimeAt);
 
-	private LocalDateArbitrary setDateParams(LocalDateArbitrary dates) {
-		dates = dates.onlyMonths(allowedMonths.get().toArray(new Month[]{}));
-		if (dayOfMonthBetween.getMin() != null && dayOfMonthBetween.getMax() != null) {
-			dates = dates.dayOfMonthBetween(dayOfMonthBetween.getMin(), dayOfMonthBetween.getMax());
-		}
-		dates = dates.onlyDaysOfWeek(allowedDayOfWeeks.get().toArray(new DayOfWeek[]{}));
-		return dates;
 	}
 
-	private LocalTimeArbitrary timesByDate(TimeArbitraries times, LocalDate date, LocalDate effectiveMin, LocalDate effectiveMax) {
-		if (date.isEqual(effectiveMin)) {
-			return times.firstDay;
-		} else if (date.isEqual(effectiveMax)) {
-			return times.lastDay;
-		} else {
-			return times.daysBetween;
-		}
+	private LocalDateTimeIndex allowedDateTimes(LocalDateTime effectiveMin, LocalDateTime effectiveMax) {
+		int minDayOfMonth = dayOfMonthBetween.getMin() == null ? 1 : dayOfMonthBetween.getMin();
+		int maxDayOfMonth = dayOfMonthBetween.getMax() == null ? 31 : dayOfMonthBetween.getMax();
+		LocalDateIndex dates = new LocalDateIndex(
+			effectiveMin.toLocalDate(),
+			effectiveMax.toLocalDate(),
+			allowedMonths.get(),
+			allowedDayOfWeeks.get(),
+			minDayOfMonth,
+			maxDayOfMonth
+		);
+		LocalTimeIndex times = new LocalTimeIndex(hourBetween, minuteBetween, secondBetween, ofPrecision);
+		LocalTime dailyMin = DefaultLocalTimeArbitrary.effectiveMin(timeBetween, hourBetween, minuteBetween, secondBetween, ofPrecision);
+		LocalTime dailyMax = DefaultLocalTimeArbitrary.effectiveMax(timeBetween, hourBetween, minuteBetween, secondBetween, ofPrecision);
+		return new LocalDateTimeIndex(dates, times, dailyMin, dailyMax, effectiveMin, effectiveMax);
 	}
 
 	private LocalDateTime effectiveMin() {
@@ -138,47 +146,11 @@ public class DefaultLocalDateTimeArbitrary extends ArbitraryDecorator<LocalDateT
 		if (effective.toLocalTime().isAfter(maxTime)) {
 			return LocalDateTime.of(effective.toLocalDate(), maxTime);
 		} else if (effective.toLocalTime().isBefore(minTime)) {
-			return LocalDateTime.of(effective.toLocalDate().minusDays(1), minTime);
+			return LocalDateTime.of(effective.toLocalDate().minusDays(1), maxTime);
 		}
 		return effective;
 	}
 
-	private TimeArbitraries generateTimeArbitraries(LocalDateTime effectiveMin, LocalDateTime effectiveMax, OfPrecision ofPrecision) {
-		boolean oneDay = false;
-		TimeArbitraries times = new TimeArbitraries();
-		if (effectiveMin.toLocalDate().isEqual(effectiveMax.toLocalDate())) {
-			oneDay = true;
-			times.firstDay = Times.times().between(effectiveMin.toLocalTime(), effectiveMax.toLocalTime()).ofPrecision(ofPrecision.get());
-		} else {
-			times.firstDay = Times.times().atTheEarliest(effectiveMin.toLocalTime()).ofPrecision(ofPrecision.get());
-			times.daysBetween = Times.times().ofPrecision(ofPrecision.get());
-			times.lastDay = Times.times().atTheLatest(effectiveMax.toLocalTime()).ofPrecision(ofPrecision.get());
-		}
-		setTimeParams(times, oneDay);
-		return times;
-	}
-
-	private void setTimeParams(TimeArbitraries times, boolean oneDay) {
-		if (timeBetween.getMin() != null && timeBetween.getMax() != null) {
-			if (!oneDay) {
-				times.firstDay = times.firstDay.atTheLatest(timeBetween.getMax());
-				times.daysBetween = times.daysBetween.between(timeBetween.getMin(), timeBetween.getMax());
-				times.lastDay = times.lastDay.atTheEarliest(timeBetween.getMin());
-			}
-		}
-		times.firstDay = times.firstDay.hourBetween(hourBetween.getMin(), hourBetween.getMax())
-									   .minuteBetween(minuteBetween.getMin(), minuteBetween.getMax())
-									   .secondBetween(secondBetween.getMin(), secondBetween.getMax());
-		if (!oneDay) {
-			times.daysBetween = times.daysBetween.hourBetween(hourBetween.getMin(), hourBetween.getMax())
-												 .minuteBetween(minuteBetween.getMin(), minuteBetween.getMax())
-												 .secondBetween(secondBetween.getMin(), secondBetween.getMax());
-			times.lastDay = times.lastDay.hourBetween(hourBetween.getMin(), hourBetween.getMax())
-										 .minuteBetween(minuteBetween.getMin(), minuteBetween.getMax())
-										 .secondBetween(secondBetween.getMin(), secondBetween.getMax());
-		}
-	}
-
 	private void setOfPrecisionImplicitly(DefaultLocalDateTimeArbitrary clone, LocalDateTime dateTime) {
 		setOfPrecisionImplicitly(clone, dateTime.toLocalTime());
 	}
@@ -290,12 +262,4 @@ public class DefaultLocalDateTimeArbitrary extends ArbitraryDecorator<LocalDateT
 		return clone;
 	}
 
-	private static class TimeArbitraries {
-
-		private LocalTimeArbitrary firstDay;
-		private LocalTimeArbitrary daysBetween;
-		private LocalTimeArbitrary lastDay;
-
-	}
-
 }
@@ -28,23 +28,19 @@ public class DefaultLocalTimeArbitrary extends ArbitraryDecorator<LocalTime> imp
 		LocalTime effectiveMin = effectiveMin(timeBetween, hourBetween, minuteBetween, secondBetween, ofPrecision);
 		LocalTime effectiveMax = effectiveMax(timeBetween, hourBetween, minuteBetween, secondBetween, ofPrecision);
 
-		long longEnd = ofPrecision.longsBetween(effectiveMin, effectiveMax);
+		LocalTimeIndex allowedTimes = new LocalTimeIndex(hourBetween, minuteBetween, secondBetween, ofPrecision);
+		long first = allowedTimes.countBefore(effectiveMin);
+		long last = allowedTimes.countUntil(effectiveMax) - 1;
+		if (first > last) {
+			throw new IllegalArgumentException("These min/max configurations cannot be used together: No values are possible.");
+		}
 
-		Arbitrary<Long> longs = Arbitraries.longs()
+		Arbitrary<Long> index = Arbitraries.longs()
 										   .withDistribution(RandomDistribution.uniform())
-										   .between(0L, longEnd)
-										   .edgeCases(config -> config.includeOnly(0L, longEnd));
-
-		Arbitrary<LocalTime> localTimes = longs.map(v -> ofPrecision.localTimeFromValue(v, effectiveMin));
-
-		localTimes = localTimes.filter(
-			v -> v.getMinute() >= minuteBetween.getMin()
-					 && v.getMinute() <= minuteBetween.getMax()
-					 && v.getSecond() >= secondBetween.getMin()
-					 && v.getSecond() <= secondBetween.getMax()
-		);
+										   .between(first, last)
+										   .edgeCases(config -> config.includeOnly(first, last));
 
-		return localTimes;
+		return index.map(allowedTimes::timeAt);
 
 	}
 
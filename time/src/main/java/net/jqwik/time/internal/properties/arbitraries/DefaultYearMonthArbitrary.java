@@ -10,7 +10,6 @@ import net.jqwik.api.arbitraries.*;
 import net.jqwik.time.api.arbitraries.*;
 import net.jqwik.time.internal.properties.arbitraries.valueRanges.*;
 
-import static java.time.temporal.ChronoUnit.*;
 import static org.apiguardian.api.API.Status.*;
 
 @API(status = INTERNAL)
@@ -28,21 +27,32 @@ public class DefaultYearMonthArbitrary extends ArbitraryDecorator<YearMonth> imp
 		YearMonth effectiveMin = yearMonthBetween.getMin() == null ? DEFAULT_MIN : yearMonthBetween.getMin();
 		YearMonth effectiveMax = yearMonthBetween.getMax() == null ? DEFAULT_MAX : yearMonthBetween.getMax();
 
-		long months = MONTHS.between(effectiveMin, effectiveMax);
+		// Index all allowed year months so that no filtering is necessary
+		int[] months = allowedMonths.get().stream().mapToInt(Month::getValue).sorted().toArray();
+		long allowedBeforeMin = countAllowedBefore(effectiveMin, months);
+		long size = countAllowedBefore(effectiveMax.plusMonths(1), months) - allowedBeforeMin;
+		if (size <= 0) {
+			throw new IllegalArgumentException("These min/max configurations cannot be used together: No values are possible.");
+		}
 
-		Arbitrary<Long> month =
+		Arbitrary<Long> index =
 			Arbitraries.longs()
-					   .between(0, months)
+					   .between(0, size - 1)
 					   .withDistribution(RandomDistribution.uniform())
-					   .edgeCases(edgeCases -> edgeCases.includeOnly(0L, months));
+					   .edgeCases(edgeCases -> edgeCases.includeOnly(0L, size - 1));
 
-		Arbitrary<YearMonth> yearMonths = month.map(effectiveMin::plusMonths);
+		return index.map(i -> yearMonthAt(allowedBeforeMin + i, months));
+	}
 
-		if (allowedMonths.get().size() < 12) {
-			yearMonths = yearMonths.filter(yearMonth -> allowedMonths.get().contains(yearMonth.getMonth()));
-		}
+	private static long countAllowedBefore(YearMonth yearMonth, int[] months) {
+		long allowedInMonthsBefore = Arrays.stream(months).filter(month -> month < yearMonth.getMonthValue()).count();
+		return yearMonth.getYear() * (long) months.length + allowedInMonthsBefore;
+	}
 
-		return yearMonths;
+	private static YearMonth yearMonthAt(long rank, int[] months) {
+		int year = Math.toIntExact(Math.floorDiv(rank, months.length));
+		int month = months[(int) Math.floorMod(rank, months.length)];
+		return YearMonth.of(year, month);
 	}
 
 	@Override
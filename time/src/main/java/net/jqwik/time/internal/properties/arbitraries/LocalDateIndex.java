@@ -0,0 +1,190 @@
+package net.jqwik.time.internal.properties.arbitraries;
+
+import java.time.*;
+import java.util.*;
+
+/**
+ * Maps all dates between min and max with an allowed month, day of week and day of month
+ * onto the dense index range {@code [0, size())}.
+ *
+ * <p>
+ * The gregorian calendar repeats every 400 years, which is also a multiple of whole weeks.
+ * A table with the number of allowed days for each month of one such cycle
+ * is therefore enough to count and find allowed dates without iterating through days.
+ * </p>
+ */
+class LocalDateIndex {
+
+	private static final int YEARS_PER_CYCLE = 400;
+	private static final int MONTHS_PER_CYCLE = YEARS_PER_CYCLE * 12;
+
+	private final Set<Month> allowedMonths;
+	private final boolean[] allowedDaysOfWeek = new boolean[7];
+	private final int minDayOfMonth;
+	private final int maxDayOfMonth;
+
+	// Number of allowed days in a month by length of month (0 to 31) and day of week of first day in month
+	private final int[][] allowedDaysPerMonthType = new int[32][7];
+
+	private final long[] allowedDaysBeforeMonthInCycle = new long[MONTHS_PER_CYCLE + 1];
+	private final long allowedDaysPerCycle;
+
+	private final long allowedDaysBeforeMin;
+	private final long size;
+
+	LocalDateIndex(
+		LocalDate min,
+		LocalDate max,
+		Set<Month> allowedMonths,
+		Set<DayOfWeek> allowedDaysOfWeek,
+		int minDayOfMonth,
+		int maxDayOfMonth
+	) {
+		this.allowedMonths = allowedMonths;
+		allowedDaysOfWeek.forEach(dayOfWeek -> this.allowedDaysOfWeek[dayOfWeek.getValue() - 1] = true);
+		this.minDayOfMonth = minDayOfMonth;
+		this.maxDayOfMonth = maxDayOfMonth;
+
+		initializeMonthTypes();
+		this.allowedDaysPerCycle = initializeCycle();
+
+		if (min.isAfter(max)) {
+			this.allowedDaysBeforeMin = 0;
+			this.size = 0;
+		} else {
+			this.allowedDaysBeforeMin = countAllowedUntil(min) - (isAllowed(min) ? 1 : 0);
+			this.size = countAllowedUntil(max) - allowedDaysBeforeMin;
+		}
+	}
+
+	long size() {
+		return size;
+	}
+
+	boolean isAllowed(LocalDate date) {
+		return allowedMonths.contains(date.getMonth())
+				   && allowedDaysOfWeek[date.getDayOfWeek().getValue() - 1]
+				   && date.getDayOfMonth() >= minDayOfMonth
+				   && date.getDayOfMonth() <= maxDayOfMonth;
+	}
+
+	/**
+	 * @param date must be allowed and between min and max
+	 */
+	long indexOf(LocalDate date) {
+		return countAllowedUntil(date) - allowedDaysBeforeMin - 1;
+	}
+
+	LocalDate dateAt(long index) {
+		long rank = allowedDaysBeforeMin + index + 1;
+		long cycle = Math.floorDiv(rank - 1, allowedDaysPerCycle);
+		long rankInCycle = rank - cycle * allowedDaysPerCycle;
+
+		int monthInCycle = lastMonthWithFewerAllowedDays(rankInCycle);
+		int year = Math.toIntExact(cycle * YEARS_PER_CYCLE + monthInCycle / 12);
+		Month month = Month.of(monthInCycle % 12 + 1);
+		long rankInMonth = rankInCycle - allowedDaysBeforeMonthInCycle[monthInCycle];
+
+		LocalDate firstOfMonth = LocalDate.of(year, month, 1);
+		int firstDayOfWeek = firstOfMonth.getDayOfWeek().getValue() - 1;
+		int lastDayOfMonth = Math.min(maxDayOfMonth, firstOfMonth.lengthOfMonth());
+		for (int dayOfMonth = minDayOfMonth; dayOfMonth <= lastDayOfMonth; dayOfMonth++) {
+			if (allowedDaysOfWeek[(firstDayOfWeek + dayOfMonth - 1) % 7]) {
+				rankInMonth--;
+				if (rankInMonth == 0) {
+					return firstOfMonth.withDayOfMonth(dayOfMonth);
+				}
+			}
+		}
+		throw new IllegalStateException(String.format("No allowed date for index %s", index));
+	}
+
+	/**
+	 * @return index of the first allowed 29th of February if there is one
+	 */
+	Optional<Long> firstLeapDayIndex() {
+		if (size == 0) {
+			return Optional.empty();
+		}
+		LocalDate first = dateAt(0);
+		LocalDate last = dateAt(size - 1);
+		int year = first.getYear();
+		while (!Year.isLeap(year) || first.isAfter(LocalDate.of(year, Month.FEBRUARY, 29))) {
+			if (year >= last.getYear()) {
+				return Optional.empty();
+			}
+			year++;
+		}
+		LocalDate leapDay = LocalDate.of(year, Month.FEBRUARY, 29);
+		if (leapDay.isAfter(last) || !isAllowed(leapDay)) {
+			return Optional.empty();
+		}
+		return Optional.of(indexOf(leapDay));
+	}
+
+	private int lastMonthWithFewerAllowedDays(long rankInCycle) {
+		int low = 0;
+		int high = MONTHS_PER_CYCLE - 1;
+		while (low < high) {
+			int middle = (low + high + 1) >>> 1;
+			if (allowedDaysBeforeMonthInCycle[middle] < rankInCycle) {
+				low = middle;
+			} else {
+				high = middle - 1;
+			}
+		}
+		return low;
+	}
+
+	private long countAllowedUntil(LocalDate date) {
+		long absoluteMonth = date.getYear() * 12L + date.getMonthValue() - 1;
+		long cycle = Math.floorDiv(absoluteMonth, MONTHS_PER_CYCLE);
+		int monthInCycle = (int) Math.floorMod(absoluteMonth, MONTHS_PER_CYCLE);
+		return cycle * allowedDaysPerCycle
+				   + allowedDaysBeforeMonthInCycle[monthInCycle]
+				   + countAllowedInMonthUntil(date);
+	}
+
+	private int countAllowedInMonthUntil(LocalDate date) {
+		if (!allowedMonths.contains(date.getMonth())) {
+			return 0;
+		}
+		int firstDayOfWeek = date.withDayOfMonth(1).getDayOfWeek().getValue() - 1;
+		return countAllowedDays(firstDayOfWeek, date.getDayOfMonth());
+	}
+
+	private int countAllowedDays(int firstDayOfWeek, int lastDayOfMonth) {
+		int count = 0;
+		int last = Math.min(maxDayOfMonth, lastDayOfMonth);
+		for (int dayOfMonth = minDayOfMonth; dayOfMonth <= last; dayOfMonth++) {
+			if (allowedDaysOfWeek[(firstDayOfWeek + dayOfMonth - 1) % 7]) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	private void initializeMonthTypes() {
+		for (int lengthOfMonth = 28; lengthOfMonth <= 31; lengthOfMonth++) {
+			for (int firstDayOfWeek = 0; firstDayOfWeek < 7; firstDayOfWeek++) {
+				allowedDaysPerMonthType[lengthOfMonth][firstDayOfWeek] = countAllowedDays(firstDayOfWeek, lengthOfMonth);
+			}
+		}
+	}
+
+	private long initializeCycle() {
+		int firstDayOfWeek = LocalDate.of(0, 1, 1).getDayOfWeek().getValue() - 1;
+		long allowedDays = 0;
+		for (int monthInCycle = 0; monthInCycle < MONTHS_PER_CYCLE; monthInCycle++) {
+			allowedDaysBeforeMonthInCycle[monthInCycle] = allowedDays;
+			Month month = Month.of(monthInCycle % 12 + 1);
+			int lengthOfMonth = month.length(Year.isLeap(monthInCycle / 12));
+			if (allowedMonths.contains(month)) {
+				allowedDays += allowedDaysPerMonthType[lengthOfMonth][firstDayOfWeek];
+			}
+			firstDayOfWeek = (firstDayOfWeek + lengthOfMonth) % 7;
+		}
+		allowedDaysBeforeMonthInCycle[MONTHS_PER_CYCLE] = allowedDays;
+		return allowedDays;
+	}
+}
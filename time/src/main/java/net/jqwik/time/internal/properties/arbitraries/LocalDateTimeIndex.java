@@ -0,0 +1,108 @@
+package net.jqwik.time.internal.properties.arbitraries;
+
+import java.math.*;
+import java.time.*;
+import java.util.*;
+
+/**
+ * Maps all allowed date times between min and max onto the dense index range {@code [0, size())}.
+ *
+ * <p>
+ * Every allowed date contributes the same range of allowed times. Only the first and the last date
+ * are cut by min and max, which is done by shifting and shortening the whole index range.
+ * Since nanosecond precision over a few centuries does not fit into a long, indices are also available as BigInteger.
+ * </p>
+ */
+class LocalDateTimeIndex {
+
+	private final LocalDateIndex dates;
+	private final LocalTimeIndex times;
+
+	private final long firstTimeIndex;
+	private final long timesPerDay;
+	private final long offset;
+	private final BigInteger size;
+
+	LocalDateTimeIndex(
+		LocalDateIndex dates,
+		LocalTimeIndex times,
+		LocalTime dailyMin,
+		LocalTime dailyMax,
+		LocalDateTime min,
+		LocalDateTime max
+	) {
+		this.dates = dates;
+		this.times = times;
+		this.firstTimeIndex = times.countBefore(dailyMin);
+		this.timesPerDay = Math.max(0, times.countUntil(dailyMax) - firstTimeIndex);
+
+		if (dates.size() == 0 || timesPerDay == 0) {
+			this.offset = 0;
+			this.size = BigInteger.ZERO;
+			return;
+		}
+
+		LocalDate firstDate = dates.dateAt(0);
+		LocalDate lastDate = dates.dateAt(dates.size() - 1);
+		this.offset = firstDate.equals(min.toLocalDate()) ? timesInDay(times.countBefore(min.toLocalTime())) : 0;
+		long lastOffset = lastDate.equals(max.toLocalDate()) ? timesInDay(times.countUntil(max.toLocalTime())) - 1 : timesPerDay - 1;
+
+		BigInteger lastIndex = BigInteger.valueOf(dates.size() - 1)
+										 .multiply(BigInteger.valueOf(timesPerDay))
+										 .add(BigInteger.valueOf(lastOffset - offset));
+		this.size = lastIndex.signum() < 0 ? BigInteger.ZERO : lastIndex.add(BigInteger.ONE);
+	}
+
+	private long timesInDay(long timesCount) {
+		return Math.max(0, Math.min(timesPerDay, timesCount - firstTimeIndex));
+	}
+
+	BigInteger size() {
+		return size;
+	}
+
+	boolean fitsInLong() {
+		return size.bitLength() < Long.SIZE;
+	}
+
+	/**
+	 * Only use if {@link #fitsInLong()}
+	 */
+	LocalDateTime dateTimeAt(long index) {
+		long shifted = index + offset;
+		return dateTime(shifted / timesPerDay, shifted % timesPerDay);
+	}
+
+	LocalDateTime dateTimeAt(BigInteger index) {
+		BigInteger[] dateAndTime = index.add(BigInteger.valueOf(offset)).divideAndRemainder(BigInteger.valueOf(timesPerDay));
+		return dateTime(dateAndTime[0].longValue(), dateAndTime[1].longValue());
+	}
+
+	private LocalDateTime dateTime(long dateIndex, long timeInDay) {
+		return LocalDateTime.of(dates.dateAt(dateIndex), times.timeAt(firstTimeIndex + timeInDay));
+	}
+
+	/**
+	 * @return indices of first and last time on the first date, the first leap day and the last date
+	 * without the first and last index overall
+	 */
+	List<BigInteger> innerEdgeCaseIndices() {
+		Set<BigInteger> indices = new LinkedHashSet<>();
+		addFirstAndLastTimeOfDate(0, indices);
+		dates.firstLeapDayIndex().ifPresent(leapDay -> addFirstAndLastTimeOfDate(leapDay, indices));
+		addFirstAndLastTimeOfDate(dates.size() - 1, indices);
+		indices.remove(BigInteger.ZERO);
+		indices.remove(size.subtract(BigInteger.ONE));
+		return new ArrayList<>(indices);
+	}
+
+	private void addFirstAndLastTimeOfDate(long dateIndex, Set<BigInteger> indices) {
+		BigInteger maxIndex = size.subtract(BigInteger.ONE);
+		BigInteger firstOfDate = BigInteger.valueOf(dateIndex)
+										   .multiply(BigInteger.valueOf(timesPerDay))
+										   .subtract(BigInteger.valueOf(offset));
+		BigInteger lastOfDate = firstOfDate.add(BigInteger.valueOf(timesPerDay - 1));
+		indices.add(firstOfDate.max(BigInteger.ZERO).min(maxIndex));
+		indices.add(lastOfDate.max(BigInteger.ZERO).min(maxIndex));
+	}
+}
@@ -0,0 +1,121 @@
+package net.jqwik.time.internal.properties.arbitraries;
+
+import java.time.*;
+
+import net.jqwik.time.internal.properties.arbitraries.valueRanges.*;
+
+import static java.time.temporal.ChronoUnit.*;
+
+/**
+ * Maps all times of a day with an allowed hour, minute and second and a nano part that fits the precision
+ * onto the dense index range {@code [0, size())}.
+ *
+ * <p>
+ * Allowed times form a mixed radix number of hours, minutes, seconds and precision steps.
+ * The index of a time therefore keeps the natural order of times.
+ * </p>
+ */
+class LocalTimeIndex {
+
+	private static final int NANOS_PER_SECOND = 1_000_000_000;
+
+	private final int minHour;
+	private final int maxHour;
+	private final int minMinute;
+	private final int maxMinute;
+	private final int minSecond;
+	private final int maxSecond;
+	private final int nanosPerStep;
+
+	private final long perSecond;
+	private final long perMinute;
+	private final long perHour;
+	private final long size;
+
+	LocalTimeIndex(HourBetween hourBetween, MinuteBetween minuteBetween, SecondBetween secondBetween, OfPrecision ofPrecision) {
+		this.minHour = hourBetween.getMin();
+		this.maxHour = hourBetween.getMax();
+		boolean withMinutes = ofPrecision.isLessOrEqualTo(MINUTES);
+		this.minMinute = withMinutes ? minuteBetween.getMin() : 0;
+		this.maxMinute = withMinutes ? minuteBetween.getMax() : 0;
+		boolean withSeconds = ofPrecision.isLessOrEqualTo(SECONDS);
+		this.minSecond = withSeconds ? secondBetween.getMin() : 0;
+		this.maxSecond = withSeconds ? secondBetween.getMax() : 0;
+		this.nanosPerStep = nanosPerStep(ofPrecision);
+
+		this.perSecond = NANOS_PER_SECOND / nanosPerStep;
+		this.perMinute = (maxSecond - minSecond + 1) * perSecond;
+		this.perHour = (maxMinute - minMinute + 1) * perMinute;
+		this.size = (maxHour - minHour + 1) * perHour;
+	}
+
+	private static int nanosPerStep(OfPrecision ofPrecision) {
+		switch (ofPrecision.get()) {
+			case NANOS:
+				return 1;
+			case MICROS:
+				return 1_000;
+			case MILLIS:
+				return 1_000_000;
+			default:
+				return NANOS_PER_SECOND;
+		}
+	}
+
+	long size() {
+		return size;
+	}
+
+	boolean isAllowed(LocalTime time) {
+		return time.getHour() >= minHour && time.getHour() <= maxHour
+				   && time.getMinute() >= minMinute && time.getMinute() <= maxMinute
+				   && time.getSecond() >= minSecond && time.getSecond() <= maxSecond
+				   && time.getNano() % nanosPerStep == 0;
+	}
+
+	/**
+	 * @return number of allowed times strictly before {@code time}
+	 */
+	long countBefore(LocalTime time) {
+		if (time.getHour() < minHour) {
+			return 0;
+		}
+		if (time.getHour() > maxHour) {
+			return size;
+		}
+		long count = (time.getHour() - minHour) * perHour;
+		if (time.getMinute() < minMinute) {
+			return count;
+		}
+		if (time.getMinute() > maxMinute) {
+			return count + perHour;
+		}
+		count += (time.getMinute() - minMinute) * perMinute;
+		if (time.getSecond() < minSecond) {
+			return count;
+		}
+		if (time.getSecond() > maxSecond) {
+			return count + perMinute;
+		}
+		count += (time.getSecond() - minSecond) * perSecond;
+		long stepsBefore = (time.getNano() + nanosPerStep - 1L) / nanosPerStep;
+		return count + Math.min(perSecond, stepsBefore);
+	}
+
+	/**
+	 * @return number of allowed times before or equal to {@code time}
+	 */
+	long countUntil(LocalTime time) {
+		return countBefore(time) + (isAllowed(time) ? 1 : 0);
+	}
+
+	LocalTime timeAt(long index) {
+		int hour = (int) (minHour + index / perHour);
+		long rest = index % perHour;
+		int minute = (int) (minMinute + rest / perMinute);
+		rest = rest % perMinute;
+		int second = (int) (minSecond + rest / perSecond);
+		int nano = (int) (rest % perSecond) * nanosPerStep;
+		return LocalTime.of(hour, minute, second, nano);
+	}
+}
@@ -97,40 +97,6 @@ public class OfPrecision {
 		}
 	}
 
-	public long longsBetween(LocalTime effectiveMin, LocalTime effectiveMax) {
-		switch (precision) {
-			case HOURS:
-				return HOURS.between(effectiveMin, effectiveMax);
-			case MINUTES:
-				return MINUTES.between(effectiveMin, effectiveMax);
-			case SECONDS:
-				return SECONDS.between(effectiveMin, effectiveMax);
-			case MILLIS:
-				return MILLIS.between(effectiveMin, effectiveMax);
-			case MICROS:
-				return MICROS.between(effectiveMin, effectiveMax);
-			default:
-				return NANOS.between(effectiveMin, effectiveMax);
-		}
-	}
-
-	public LocalTime localTimeFromValue(long longAdd, LocalTime effectiveMin) {
-		switch (precision) {
-			case HOURS:
-				return effectiveMin.plusHours(longAdd);
-			case MINUTES:
-				return effectiveMin.plusMinutes(longAdd);
-			case SECONDS:
-				return effectiveMin.plusSeconds(longAdd);
-			case MILLIS:
-				longAdd *= 1_000;
-			case MICROS:
-				longAdd *= 1_000;
-			default:
-				return effectiveMin.plusNanos(longAdd);
-		}
-	}
-
 	public LocalTime effectiveMaxNanos(LocalTime effective) {
 		switch (precision) {
 			case MILLIS:
@@ -14,6 +14,11 @@ public class DateTimesArbitraryProvider implements ArbitraryProvider {
 		return targetType.isAssignableFrom(LocalDateTime.class);
 	}
 
+	@Override
+	public Set<Class<?>> providedTypes() {
+		return Collections.singleton(LocalDateTime.class);
+	}
+
 	@Override
 	public Set<Arbitrary<?>> provideFor(TypeUsage targetType, SubtypeProvider subtypeProvider) {
 		return Collections.singleton(DateTimes.dateTimes());
@@ -13,6 +13,11 @@ public class DatesArbitraryProvider implements ArbitraryProvider {
 		return targetType.isAssignableFrom(LocalDate.class);
 	}
 
+	@Override
+	public Set<Class<?>> providedTypes() {
+		return Collections.singleton(LocalDate.class);
+	}
+
 	@Override
 	public Set<Arbitrary<?>> provideFor(TypeUsage targetType, SubtypeProvider subtypeProvider) {
 		return Collections.singleton(Dates.dates());
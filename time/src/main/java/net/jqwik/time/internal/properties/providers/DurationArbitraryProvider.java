@@ -13,6 +13,11 @@ public class DurationArbitraryProvider implements ArbitraryProvider {
 		return targetType.isAssignableFrom(Duration.class);
 	}
 
+	@Override
+	public Set<Class<?>> providedTypes() {
+		return Collections.singleton(Duration.class);
+	}
+
 	@Override
 	public Set<Arbitrary<?>> provideFor(TypeUsage targetType, SubtypeProvider subtypeProvider) {
 		return Collections.singleton(Times.durations());
@@ -13,6 +13,11 @@ public class MonthDayArbitraryProvider implements ArbitraryProvider {
 		return targetType.isAssignableFrom(MonthDay.class);
 	}
 
+	@Override
+	public Set<Class<?>> providedTypes() {
+		return Collections.singleton(MonthDay.class);
+	}
+
 	@Override
 	public Set<Arbitrary<?>> provideFor(TypeUsage targetType, SubtypeProvider subtypeProvider) {
 		return Collections.singleton(Dates.monthDays());
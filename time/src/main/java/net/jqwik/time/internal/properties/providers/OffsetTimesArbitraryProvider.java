@@ -13,6 +13,11 @@ public class OffsetTimesArbitraryProvider implements ArbitraryProvider {
 		return targetType.isAssignableFrom(OffsetTime.class);
 	}
 
+	@Override
+	public Set<Class<?>> providedTypes() {
+		return Collections.singleton(OffsetTime.class);
+	}
+
 	@Override
 	public Set<Arbitrary<?>> provideFor(TypeUsage targetType, SubtypeProvider subtypeProvider) {
 		return Collections.singleton(Times.offsetTimes());
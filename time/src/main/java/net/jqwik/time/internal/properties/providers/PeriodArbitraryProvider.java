@@ -13,6 +13,11 @@ public class PeriodArbitraryProvider implements ArbitraryProvider {
 		return targetType.isAssignableFrom(Period.class);
 	}
 
+	@Override
+	public Set<Class<?>> providedTypes() {
+		return Collections.singleton(Period.class);
+	}
+
 	@Override
 	public Set<Arbitrary<?>> provideFor(TypeUsage targetType, SubtypeProvider subtypeProvider) {
 		return Collections.singleton(Dates.periods());
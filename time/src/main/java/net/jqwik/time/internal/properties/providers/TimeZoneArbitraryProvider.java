@@ -12,6 +12,11 @@ public class TimeZoneArbitraryProvider implements ArbitraryProvider {
 		return targetType.isAssignableFrom(TimeZone.class);
 	}
 
+	@Override
+	public Set<Class<?>> providedTypes() {
+		return Collections.singleton(TimeZone.class);
+	}
+
 	@Override
 	public Set<Arbitrary<?>> provideFor(TypeUsage targetType, SubtypeProvider subtypeProvider) {
 		return Collections.singleton(Times.timeZones());
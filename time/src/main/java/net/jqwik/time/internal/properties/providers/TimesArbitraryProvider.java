@@ -13,6 +13,11 @@ public class TimesArbitraryProvider implements ArbitraryProvider {
 		return targetType.isAssignableFrom(LocalTime.class);
 	}
 
+	@Override
+	public Set<Class<?>> providedTypes() {
+		return Collections.singleton(LocalTime.class);
+	}
+
 	@Override
 	public Set<Arbitrary<?>> provideFor(TypeUsage targetType, SubtypeProvider subtypeProvider) {
 		return Collections.singleton(Times.times());
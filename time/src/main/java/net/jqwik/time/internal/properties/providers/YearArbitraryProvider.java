@@ -13,6 +13,11 @@ public class YearArbitraryProvider implements ArbitraryProvider {
 		return targetType.isAssignableFrom(Year.class);
 	}
 
+	@Override
+	public Set<Class<?>> providedTypes() {
+		return Collections.singleton(Year.class);
+	}
+
 	@Override
 	public Set<Arbitrary<?>> provideFor(TypeUsage targetType, SubtypeProvider subtypeProvider) {
 		return Collections.singleton(Dates.years());
@@ -13,6 +13,11 @@ public class YearMonthArbitraryProvider implements ArbitraryProvider {
 		return targetType.isAssignableFrom(YearMonth.class);
 	}
 
+	@Override
+	public Set<Class<?>> providedTypes() {
+		return Collections.singleton(YearMonth.class);
+	}
+
 	@Override
 	public Set<Arbitrary<?>> provideFor(TypeUsage targetType, SubtypeProvider subtypeProvider) {
 		return Collections.singleton(Dates.yearMonths());
@@ -13,6 +13,11 @@ public class ZoneIdArbitraryProvider implements ArbitraryProvider {
 		return targetType.isAssignableFrom(ZoneId.class);
 	}
 
+	@Override
+	public Set<Class<?>> providedTypes() {
+		return Collections.singleton(ZoneId.class);
+	}
+
 	@Override
 	public Set<Arbitrary<?>> provideFor(TypeUsage targetType, SubtypeProvider subtypeProvider) {
 		return Collections.singleton(Times.zoneIds());
@@ -13,6 +13,11 @@ public class ZoneOffsetsArbitraryProvider implements ArbitraryProvider {
 		return targetType.isAssignableFrom(ZoneOffset.class);
 	}
 
+	@Override
+	public Set<Class<?>> providedTypes() {
+		return Collections.singleton(ZoneOffset.class);
+	}
+
 	@Override
 	public Set<Arbitrary<?>> provideFor(TypeUsage targetType, SubtypeProvider subtypeProvider) {
 		return Collections.singleton(Times.zoneOffsets());
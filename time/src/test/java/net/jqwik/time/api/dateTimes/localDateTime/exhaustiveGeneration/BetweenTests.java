@@ -194,4 +194,26 @@ public class BetweenTests {
 		);
 	}
 
+	@Example
+	void betweenEndsBeforeHourMinuteSecondBetween() {
+		Optional<ExhaustiveGenerator<LocalDateTime>> optionalGenerator =
+			DateTimes.dateTimes()
+					 .between(
+						 LocalDateTime.of(2013, 5, 24, 22, 0, 0),
+						 LocalDateTime.of(2013, 5, 26, 10, 0, 0)
+					 )
+					 .hourBetween(21, 21)
+					 .minuteBetween(0, 0)
+					 .secondBetween(0, 1)
+					 .exhaustive();
+		assertThat(optionalGenerator).isPresent();
+
+		ExhaustiveGenerator<LocalDateTime> generator = optionalGenerator.get();
+		assertThat(generator.maxCount()).isEqualTo(2);
+		assertThat(generator).containsExactly(
+			LocalDateTime.of(2013, 5, 25, 21, 0, 0),
+			LocalDateTime.of(2013, 5, 25, 21, 0, 1)
+		);
+	}
+
 }
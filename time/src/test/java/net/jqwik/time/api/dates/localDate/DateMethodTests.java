@@ -382,6 +382,23 @@ public class DateMethodTests {
 
 		}
 
+		@Property
+		void onlyFebruary29OnSundays(@ForAll Random random) {
+
+			Arbitrary<LocalDate> dates = Dates.dates()
+											  .onlyMonths(FEBRUARY)
+											  .dayOfMonthBetween(29, 29)
+											  .onlyDaysOfWeek(DayOfWeek.SUNDAY);
+
+			assertAllGenerated(dates.generator(1000, true), random, date -> {
+				assertThat(date.getMonth()).isEqualTo(FEBRUARY);
+				assertThat(date.getDayOfMonth()).isEqualTo(29);
+				assertThat(date.getDayOfWeek()).isEqualTo(DayOfWeek.SUNDAY);
+				return true;
+			});
+
+		}
+
 	}
 
 }
@@ -13,6 +13,11 @@ public class EmailArbitraryProvider implements ArbitraryProvider {
 		return targetType.isAssignableFrom(String.class) && targetType.findAnnotation(Email.class).isPresent();
 	}
 
+	@Override
+	public Set<Class<?>> providedTypes() {
+		return Collections.singleton(String.class);
+	}
+
 	@Override
 	public Set<Arbitrary<?>> provideFor(TypeUsage targetType, SubtypeProvider subtypeProvider) {
 		Optional<Email> optionalEmail = targetType.findAnnotation(Email.class);